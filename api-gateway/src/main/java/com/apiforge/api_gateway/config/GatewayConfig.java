@@ -1,6 +1,9 @@
 package com.apiforge.api_gateway.config;
 
 import com.apiforge.api_gateway.filter.AuthenticationFilter;
+import com.apiforge.api_gateway.filter.PermissionChangeFilter;
+import com.apiforge.api_gateway.filter.PublicResponseCacheFilter;
+import com.apiforge.api_gateway.filter.RateLimitFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
@@ -13,32 +16,54 @@ public class GatewayConfig {
     @Autowired
     private AuthenticationFilter authenticationFilter;
 
+    @Autowired
+    private PermissionChangeFilter permissionChangeFilter;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Autowired
+    private PublicResponseCacheFilter publicResponseCacheFilter;
+
     @Bean
     public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
         return builder.routes()
                 .route("auth-service", r -> r
                         .path("/api/auth/**")
+                        .filters(f -> f.filter(rateLimitFilter.apply(new RateLimitFilter.Config())))
                         .uri("http://localhost:7081"))
                 
                 .route("content-type-service", r -> r
                         .path("/api/content-types/**")
-                        .filters(f -> f.filter(authenticationFilter.apply(new AuthenticationFilter.Config())))
+                        .filters(f -> f
+                                .filter(authenticationFilter.apply(new AuthenticationFilter.Config()))
+                                .filter(rateLimitFilter.apply(new RateLimitFilter.Config()))
+                                .filter(publicResponseCacheFilter.apply(new PublicResponseCacheFilter.Config())))
                         .uri("http://localhost:7082"))
                 
                 .route("content-service", r -> r
                         .path("/api/content/**")
-                        .filters(f -> f.filter(authenticationFilter.apply(new AuthenticationFilter.Config())))
+                        .filters(f -> f
+                                .filter(authenticationFilter.apply(new AuthenticationFilter.Config()))
+                                .filter(rateLimitFilter.apply(new RateLimitFilter.Config()))
+                                .filter(publicResponseCacheFilter.apply(new PublicResponseCacheFilter.Config())))
                         .uri("http://localhost:7083"))
                 
                 .route("media-service", r -> r
                         .path("/api/media/**")
                         // Media service has its own public endpoints logic in filter, so we still apply filter
-                        .filters(f -> f.filter(authenticationFilter.apply(new AuthenticationFilter.Config())))
+                        .filters(f -> f
+                                .filter(authenticationFilter.apply(new AuthenticationFilter.Config()))
+                                .filter(rateLimitFilter.apply(new RateLimitFilter.Config()))
+                                .filter(publicResponseCacheFilter.apply(new PublicResponseCacheFilter.Config())))
                         .uri("http://localhost:7084"))
                 
                 .route("permission-service", r -> r
                         .path("/api/permissions/**")
-                        .filters(f -> f.filter(authenticationFilter.apply(new AuthenticationFilter.Config())))
+                        .filters(f -> f
+                                .filter(authenticationFilter.apply(new AuthenticationFilter.Config()))
+                                .filter(rateLimitFilter.apply(new RateLimitFilter.Config()))
+                                .filter(permissionChangeFilter.apply(new PermissionChangeFilter.Config())))
                         .uri("http://localhost:7085"))
                 
                 .build();
@@ -0,0 +1,26 @@
+package com.apiforge.api_gateway.config;
+
+import com.apiforge.api_gateway.service.LocalRateLimitStore;
+import com.apiforge.api_gateway.service.RateLimitStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Picks the {@link RateLimitStore}. Only the in-memory store ships with the gateway; a shared store is
+ * registered by its own configuration under another {@code apiforge.rate-limit.store} value.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "apiforge.rate-limit.store", havingValue = "local", matchIfMissing = true)
+    public RateLimitStore localRateLimitStore(
+            @Value("${apiforge.rate-limit.local.maximum-size:100000}") long maximumSize,
+            @Value("${apiforge.rate-limit.local.idle-ttl:10m}") Duration idleTtl) {
+        return new LocalRateLimitStore(maximumSize, idleTtl);
+    }
+}
@@ -0,0 +1,97 @@
+package com.apiforge.api_gateway.config;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Clients for the gateway's own calls to backend services (permission checks, the permission event
+ * stream and response cache revalidation), separate from the route proxy's client. They share one bounded connection pool: when
+ * permission-service slows down, callers wait at most {@code pending-acquire-timeout} for a connection and
+ * {@code response-timeout} for an answer, then fail instead of piling up. Pool gauges are published under
+ * {@code reactor.netty.connection.provider.*{name=gateway-services}}.
+ *
+ * The pool and {@link HttpClient} are deliberately not beans: Spring Cloud Gateway injects the routing
+ * {@code HttpClient} by type.
+ */
+@Configuration
+public class ServiceClientConfig {
+
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient httpClient;
+
+    public ServiceClientConfig(
+            @Value("${apiforge.service-client.pool.max-connections:100}") int maxConnections,
+            @Value("${apiforge.service-client.pool.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${apiforge.service-client.pool.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${apiforge.service-client.pool.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${apiforge.service-client.pool.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${apiforge.service-client.pool.evict-interval:30s}") Duration evictInterval,
+            @Value("${apiforge.service-client.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${apiforge.service-client.response-timeout:2s}") Duration responseTimeout,
+            @Value("${apiforge.service-client.h2c:false}") boolean h2c) {
+        this.connectionProvider = ConnectionProvider.builder("gateway-services")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
+                .build();
+        HttpClient client = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(responseTimeout);
+        // h2c is negotiated by upgrading an HTTP/1.1 request, so targets without HTTP/2 keep working.
+        this.httpClient = h2c ? client.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11) : client;
+    }
+
+    @Bean
+    public WebClient permissionServiceWebClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${apiforge.permission-service-url:http://localhost:7085}") String permissionServiceUrl) {
+        return webClientBuilder.clone()
+                .baseUrl(permissionServiceUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /**
+     * Same pool, but without a response timeout: the event stream stays open and is idle between changes.
+     */
+    @Bean
+    public WebClient permissionEventsWebClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${apiforge.permission-service-url:http://localhost:7085}") String permissionServiceUrl) {
+        return webClientBuilder.clone()
+                .baseUrl(permissionServiceUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient.responseTimeout(null)))
+                .build();
+    }
+
+    /**
+     * No base URL; used with the absolute backend URIs of cached responses.
+     */
+    @Bean
+    public WebClient serviceWebClient(WebClient.Builder webClientBuilder) {
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @PreDestroy
+    public void disposePool() {
+        connectionProvider.dispose();
+    }
+}
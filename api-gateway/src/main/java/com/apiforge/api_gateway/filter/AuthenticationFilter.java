@@ -1,8 +1,12 @@
 package com.apiforge.api_gateway.filter;
 
-import com.apiforge.common.util.JwtUtil;
+import com.apiforge.api_gateway.service.PermissionDecisionCache;
+import com.apiforge.api_gateway.service.VerifiedTokenCache;
+import com.apiforge.common.util.JwtClaims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
@@ -11,29 +15,33 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
-import java.util.Map;
 
 @Component
 public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config> {
 
-    private final JwtUtil jwtUtil;
-    private final WebClient.Builder webClientBuilder;
-    private final String permissionServiceUrl;
+    /** Exchange attribute holding the verified {@link JwtClaims} of an authenticated request. */
+    public static final String CLAIMS_ATTRIBUTE = AuthenticationFilter.class.getName() + ".claims";
+
+    private static final List<String> PUBLIC_ROLES = List.of("PUBLIC");
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PermissionDecisionCache permissionDecisionCache;
+    // Time spent in this filter, split by phase: verifying the bearer token and the public permission check.
+    private final Timer jwtTimer;
+    private final Timer permissionTimer;
 
     @Autowired
-    public AuthenticationFilter(
-            JwtUtil jwtUtil,
-            WebClient.Builder webClientBuilder,
-            @Value("${apiforge.permission-service-url:http://localhost:7085}") String permissionServiceUrl) {
+    public AuthenticationFilter(VerifiedTokenCache verifiedTokenCache, PermissionDecisionCache permissionDecisionCache,
+                                MeterRegistry meterRegistry) {
         super(Config.class);
-        this.jwtUtil = jwtUtil;
-        this.webClientBuilder = webClientBuilder;
-        this.permissionServiceUrl = permissionServiceUrl;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.permissionDecisionCache = permissionDecisionCache;
+        this.jwtTimer = Timer.builder("apiforge.gateway.auth").tag("phase", "jwt").register(meterRegistry);
+        this.permissionTimer = Timer.builder("apiforge.gateway.auth").tag("phase", "permission").register(meterRegistry);
     }
 
     @Override
@@ -55,19 +63,22 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
 
             String token = authHeader.substring(7);
 
+            JwtClaims claims;
+            Timer.Sample sample = Timer.start();
             try {
-                if (!jwtUtil.validateToken(token)) {
-                    return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
-                }
-
-                String username = jwtUtil.extractUsername(token);
-                Long userId = jwtUtil.extractUserId(token);
-                List<String> roles = jwtUtil.extractRoles(token);
+                claims = verifiedTokenCache.verify(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
+            } finally {
+                sample.stop(jwtTimer);
+            }
 
+            exchange.getAttributes().put(CLAIMS_ATTRIBUTE, claims);
+            try {
                 ServerHttpRequest modifiedRequest = request.mutate()
-                        .header("X-User-Id", userId != null ? userId.toString() : "")
-                        .header("X-Username", username)
-                        .header("X-User-Roles", String.join(",", roles))
+                        .header("X-User-Id", claims.userId() != null ? claims.userId().toString() : "")
+                        .header("X-Username", claims.username())
+                        .header("X-User-Roles", String.join(",", claims.roles()))
                         .build();
 
                 return chain.filter(exchange.mutate().request(modifiedRequest).build());
@@ -95,36 +106,41 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
             return onError(exchange, "Authorization required", HttpStatus.UNAUTHORIZED);
         }
 
-        Map<String, Object> payload = Map.of(
-                "contentTypeApiId", contentTypeApiId,
-                "endpoint", normalizeEndpoint(path),
-                "method", request.getMethod() != null ? request.getMethod().name() : "",
-                "userRoles", List.of("PUBLIC")
-        );
-
-        return webClientBuilder.baseUrl(permissionServiceUrl)
-                .build()
-                .post()
-                .uri("/api/permissions/api/check")
-                .bodyValue(payload)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .map(response -> Boolean.TRUE.equals(response.get("data")))
-                .flatMap(allowed -> {
-                    if (!allowed) {
-                        return onError(exchange, "Forbidden", HttpStatus.FORBIDDEN);
+        String method = request.getMethod() != null ? request.getMethod().name() : "";
+        Timer.Sample sample = Timer.start();
+        return permissionDecisionCache.isAllowed(contentTypeApiId, normalizeEndpoint(path), method, PUBLIC_ROLES)
+                // Stopped before the decision is passed on, so the rest of the chain is not included.
+                .doOnSuccess(allowed -> sample.stop(permissionTimer))
+                .doOnError(ex -> sample.stop(permissionTimer))
+                .map(Decision::of)
+                // No decision could be made (permission-service down and nothing known for this key): that is
+                // an outage, not a denial, so clients are told to retry. Only the check itself is covered, so
+                // errors from the rest of the chain propagate unchanged.
+                .onErrorReturn(Decision.UNAVAILABLE)
+                .flatMap(decision -> switch (decision) {
+                    case UNAVAILABLE -> onError(exchange, "Permission check unavailable", HttpStatus.SERVICE_UNAVAILABLE);
+                    case DENIED -> onError(exchange, "Forbidden", HttpStatus.FORBIDDEN);
+                    case ALLOWED -> {
+                        ServerHttpRequest modifiedRequest = request.mutate()
+                                .header("X-User-Id", "")
+                                .header("X-Username", "public")
+                                .header("X-User-Roles", "PUBLIC")
+                                .build();
+                        yield chain.filter(exchange.mutate().request(modifiedRequest).build());
                     }
-                    ServerHttpRequest modifiedRequest = request.mutate()
-                            .header("X-User-Id", "")
-                            .header("X-Username", "public")
-                            .header("X-User-Roles", "PUBLIC")
-                            .build();
-                    return chain.filter(exchange.mutate().request(modifiedRequest).build());
-                })
-                .onErrorResume(ex -> onError(exchange, "Permission check failed", HttpStatus.FORBIDDEN));
+                });
+    }
+
+    private enum Decision {
+        ALLOWED, DENIED, UNAVAILABLE;
+
+        static Decision of(boolean allowed) {
+            return allowed ? ALLOWED : DENIED;
+        }
     }
 
-    private String resolveContentTypeApiId(String path) {
+    // Package-private and static so the benchmarks module can measure them in isolation.
+    static String resolveContentTypeApiId(String path) {
         if (!path.startsWith("/api/")) {
             return null;
         }
@@ -138,7 +154,7 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
         return parts.length > 0 && !parts[0].isBlank() ? parts[0] : null;
     }
 
-    private String normalizeEndpoint(String path) {
+    static String normalizeEndpoint(String path) {
         if (path.matches(".*/\\d+$")) {
             return path.replaceAll("/\\d+$", "/{id}");
         }
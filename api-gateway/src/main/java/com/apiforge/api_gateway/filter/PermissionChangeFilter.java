@@ -0,0 +1,54 @@
+package com.apiforge.api_gateway.filter;
+
+import com.apiforge.api_gateway.service.PermissionDecisionCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Drops cached permission decisions when an API permission is created, updated or deleted through the
+ * gateway, so admins see their change take effect immediately instead of after the cache TTL.
+ */
+@Component
+public class PermissionChangeFilter extends AbstractGatewayFilterFactory<PermissionChangeFilter.Config> {
+
+    private final PermissionDecisionCache permissionDecisionCache;
+
+    @Autowired
+    public PermissionChangeFilter(PermissionDecisionCache permissionDecisionCache) {
+        super(Config.class);
+        this.permissionDecisionCache = permissionDecisionCache;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            if (!isApiPermissionWrite(exchange.getRequest())) {
+                return chain.filter(exchange);
+            }
+            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+                HttpStatusCode status = exchange.getResponse().getStatusCode();
+                if (status != null && status.is2xxSuccessful()) {
+                    permissionDecisionCache.invalidateAll();
+                }
+            }));
+        };
+    }
+
+    private boolean isApiPermissionWrite(ServerHttpRequest request) {
+        String path = request.getPath().toString();
+        HttpMethod method = request.getMethod();
+        return path.startsWith("/api/permissions/api")
+                && !path.endsWith("/check")
+                && (HttpMethod.POST.equals(method) || HttpMethod.PUT.equals(method)
+                || HttpMethod.PATCH.equals(method) || HttpMethod.DELETE.equals(method));
+    }
+
+    public static class Config {
+    }
+}
@@ -0,0 +1,203 @@
+package com.apiforge.api_gateway.filter;
+
+import com.apiforge.api_gateway.service.PublicResponseCache;
+import com.apiforge.api_gateway.service.PublicResponseCache.CachedResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves anonymous {@code GET /api/content/**} requests from {@link PublicResponseCache} and fills it from
+ * backend responses. Runs after {@link AuthenticationFilter}, so a cached page is only served once the
+ * PUBLIC role is still allowed to read it (a decision normally answered from the permission decision
+ * cache). Successful writes passing through invalidate: content writes drop their content type, media
+ * writes drop populated responses and content type writes drop everything.
+ *
+ * Entries stored with {@code Cache-Control: no-cache} are only served after a conditional request to
+ * content-service confirms them ({@code REVALIDATED}), so they save the backend the query and the body but
+ * never skip its check.
+ *
+ * Misses are stored by {@link PublicResponseCaptureFilter}, which has to wrap the response before Spring
+ * Cloud Gateway's response writer does.
+ */
+@Component
+public class PublicResponseCacheFilter extends AbstractGatewayFilterFactory<PublicResponseCacheFilter.Config> {
+
+    /** Set to {@code HIT}, {@code STALE} or {@code REVALIDATED} when a response was served from the cache. */
+    public static final String CACHE_RESULT_ATTRIBUTE = PublicResponseCacheFilter.class.getName() + ".result";
+
+    private static final String CACHE_HEADER = "X-Cache";
+    private static final String CONTENT_PATH_PREFIX = "/api/content/";
+    private static final List<String> READ_SUFFIXES = List.of("/query", "/search");
+
+    private final PublicResponseCache publicResponseCache;
+    private final Counter hitCounter;
+    private final Counter staleCounter;
+    private final Counter revalidatedCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public PublicResponseCacheFilter(PublicResponseCache publicResponseCache, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.publicResponseCache = publicResponseCache;
+        this.hitCounter = Counter.builder("apiforge.gateway.response-cache").tag("result", "hit").register(meterRegistry);
+        this.staleCounter = Counter.builder("apiforge.gateway.response-cache").tag("result", "stale").register(meterRegistry);
+        this.revalidatedCounter = Counter.builder("apiforge.gateway.response-cache").tag("result", "revalidated").register(meterRegistry);
+        this.missCounter = Counter.builder("apiforge.gateway.response-cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            if (!publicResponseCache.isEnabled()) {
+                return chain.filter(exchange);
+            }
+            ServerHttpRequest request = exchange.getRequest();
+            if (HttpMethod.GET.equals(request.getMethod())) {
+                return isPublicContentRead(exchange) ? serveCached(exchange, chain) : chain.filter(exchange);
+            }
+            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+                HttpStatusCode status = exchange.getResponse().getStatusCode();
+                if (status != null && status.is2xxSuccessful()) {
+                    invalidateFor(request.getPath().value());
+                }
+            }));
+        };
+    }
+
+    private boolean isPublicContentRead(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        return request.getPath().value().startsWith(CONTENT_PATH_PREFIX)
+                && exchange.getAttribute(AuthenticationFilter.CLAIMS_ATTRIBUTE) == null
+                && !request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION);
+    }
+
+    private Mono<Void> serveCached(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String key = request.getURI().getRawPath()
+                + (request.getURI().getRawQuery() != null ? "?" + request.getURI().getRawQuery() : "");
+        long now = System.nanoTime();
+        CachedResponse cached = publicResponseCache.get(key);
+        if (cached == null) {
+            return miss(exchange, chain, key);
+        }
+        if (cached.requiresRevalidation()) {
+            return revalidated(exchange, chain, key, cached);
+        }
+        boolean fresh = publicResponseCache.isFresh(cached, now);
+        if (!fresh) {
+            publicResponseCache.revalidate(key, cached);
+        }
+        (fresh ? hitCounter : staleCounter).increment();
+        return write(exchange, cached, fresh ? "HIT" : "STALE", now);
+    }
+
+    private Mono<Void> revalidated(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                                   CachedResponse cached) {
+        return publicResponseCache.revalidateNow(key, cached)
+                .onErrorResume(ex -> Mono.empty())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(current -> {
+                    if (current.isEmpty()) {
+                        // No longer storable, or content-service failed: let the route answer as on a miss.
+                        return miss(exchange, chain, key);
+                    }
+                    revalidatedCounter.increment();
+                    return write(exchange, current.get(), "REVALIDATED", System.nanoTime());
+                });
+    }
+
+    private Mono<Void> miss(ServerWebExchange exchange, GatewayFilterChain chain, String key) {
+        ServerHttpRequest request = exchange.getRequest();
+        missCounter.increment();
+        exchange.getResponse().getHeaders().set(CACHE_HEADER, "MISS");
+        String apiId = AuthenticationFilter.resolveContentTypeApiId(request.getPath().value());
+        URI backendUri = backendUri(exchange);
+        if (apiId != null && backendUri != null) {
+            exchange.getAttributes().put(PublicResponseCaptureFilter.PENDING_ATTRIBUTE,
+                    new PublicResponseCaptureFilter.Pending(key, apiId, request.getQueryParams().containsKey("populate"),
+                            backendUri, publicResponseCache.generation()));
+        }
+        return chain.filter(exchange);
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, CachedResponse cached, String result, long now) {
+        exchange.getAttributes().put(CACHE_RESULT_ATTRIBUTE, result);
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.getHeaders());
+        headers.set(CACHE_HEADER, result);
+        headers.set(HttpHeaders.AGE, Long.toString(TimeUnit.NANOSECONDS.toSeconds(now - cached.getStoredAt())));
+        if (matchesETag(exchange.getRequest(), cached.getHeaders().getETag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+    }
+
+    /** Weak comparison, as for {@code If-None-Match} on a GET. */
+    private static boolean matchesETag(ServerHttpRequest request, String eTag) {
+        if (eTag == null) {
+            return false;
+        }
+        String stored = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        for (String candidate : request.getHeaders().getIfNoneMatch()) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || (trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed).equals(stored)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static URI backendUri(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return null;
+        }
+        URI requestUri = exchange.getRequest().getURI();
+        return UriComponentsBuilder.fromUri(route.getUri())
+                .replacePath(requestUri.getRawPath())
+                .replaceQuery(requestUri.getRawQuery())
+                .build(true)
+                .toUri();
+    }
+
+    private void invalidateFor(String path) {
+        if (path.startsWith("/api/content-types")) {
+            publicResponseCache.invalidateAll();
+        } else if (path.startsWith("/api/media")) {
+            publicResponseCache.invalidatePopulated();
+        } else if (path.startsWith(CONTENT_PATH_PREFIX) && READ_SUFFIXES.stream().noneMatch(path::endsWith)) {
+            String apiId = AuthenticationFilter.resolveContentTypeApiId(path);
+            if (apiId != null) {
+                publicResponseCache.invalidate(apiId);
+            }
+        }
+    }
+
+    public static class Config {
+    }
+}
@@ -0,0 +1,114 @@
+package com.apiforge.api_gateway.filter;
+
+import com.apiforge.api_gateway.service.PublicResponseCache;
+import com.apiforge.api_gateway.service.PublicResponseCache.CachedResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+
+/**
+ * Copies backend responses into {@link PublicResponseCache} for requests that {@link PublicResponseCacheFilter}
+ * marked as storable misses. Route filters run inside the gateway's response writer, so the copying
+ * response has to be installed here, ahead of it; the route filter decides later, after authentication,
+ * whether anything is stored.
+ */
+@Component
+public class PublicResponseCaptureFilter implements GlobalFilter, Ordered {
+
+    /** Holds a {@link Pending} when the response of this exchange should be stored. */
+    public static final String PENDING_ATTRIBUTE = PublicResponseCaptureFilter.class.getName() + ".pending";
+
+    /**
+     * @param generation {@link PublicResponseCache#generation()} before the backend was called
+     */
+    public record Pending(String key, String apiId, boolean populated, URI backendUri, long generation) {
+    }
+
+    private final PublicResponseCache publicResponseCache;
+
+    public PublicResponseCaptureFilter(PublicResponseCache publicResponseCache) {
+        this.publicResponseCache = publicResponseCache;
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!publicResponseCache.isEnabled() || !HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+            return chain.filter(exchange);
+        }
+        ServerHttpResponse capturing = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                Pending pending = exchange.getAttribute(PENDING_ATTRIBUTE);
+                if (pending == null || !HttpStatus.OK.equals(getStatusCode())
+                        || !PublicResponseCache.isCacheable(getHeaders())) {
+                    return super.writeWith(body);
+                }
+                BodyCopy copy = new BodyCopy(publicResponseCache.getMaxEntryBytes());
+                return super.writeWith(Flux.from(body).doOnNext(copy::append)).doOnSuccess(done -> {
+                    byte[] bytes = copy.toByteArray();
+                    if (bytes != null) {
+                        publicResponseCache.put(pending.key(), new CachedResponse(pending.apiId(), pending.populated(),
+                                pending.backendUri(), PublicResponseCache.storableHeaders(getHeaders()), bytes,
+                                System.nanoTime()), pending.generation());
+                    }
+                });
+            }
+        };
+        return chain.filter(exchange.mutate().response(capturing).build());
+    }
+
+    /**
+     * Copies a streamed body as it is written, without consuming the buffers, and gives up past a limit.
+     */
+    private static final class BodyCopy {
+        private final long limit;
+        private ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        BodyCopy(long limit) {
+            this.limit = limit;
+        }
+
+        void append(DataBuffer buffer) {
+            if (bytes == null) {
+                return;
+            }
+            if (bytes.size() + buffer.readableByteCount() > limit) {
+                bytes = null;
+                return;
+            }
+            try (DataBuffer.ByteBufferIterator buffers = buffer.readableByteBuffers()) {
+                while (buffers.hasNext()) {
+                    ByteBuffer chunk = buffers.next();
+                    byte[] chunkBytes = new byte[chunk.remaining()];
+                    chunk.get(chunkBytes);
+                    bytes.write(chunkBytes, 0, chunkBytes.length);
+                }
+            }
+        }
+
+        /** Null when the body was larger than the limit. */
+        byte[] toByteArray() {
+            return bytes != null ? bytes.toByteArray() : null;
+        }
+    }
+}
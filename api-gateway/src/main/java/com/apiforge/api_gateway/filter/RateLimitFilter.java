@@ -0,0 +1,214 @@
+package com.apiforge.api_gateway.filter;
+
+import com.apiforge.api_gateway.service.RateLimitStore;
+import com.apiforge.api_gateway.service.RateLimitStore.BucketPolicy;
+import com.apiforge.api_gateway.service.RouteLoadMonitor;
+import com.apiforge.common.util.JwtClaims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+/**
+ * Per-client token buckets in front of every route. Authenticated requests are limited per user id from
+ * the JWT (so this filter must come after {@link AuthenticationFilter}), anonymous ones per client address.
+ *
+ * Each request costs {@code read-cost} or {@code write-cost} tokens, plus one token per
+ * {@code rows-per-token} rows asked for by a content list, scaled by the route's and the content type's
+ * weight and by the route's current load from {@link RouteLoadMonitor}. Requests that find too few tokens
+ * get a 429 with {@code Retry-After}.
+ */
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String CONTENT_PATH_PREFIX = "/api/content/";
+
+    private final RateLimitStore rateLimitStore;
+    private final RouteLoadMonitor routeLoadMonitor;
+    private final boolean enabled;
+    private final BucketPolicy userPolicy;
+    private final BucketPolicy anonymousPolicy;
+    private final long readCost;
+    private final long writeCost;
+    private final int rowsPerToken;
+    private final int defaultListLimit;
+    private final boolean trustForwardedFor;
+    private final Map<String, Double> routeWeights;
+    private final Map<String, Double> contentTypeWeights;
+    private final Counter allowedCounter;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public RateLimitFilter(
+            RateLimitStore rateLimitStore,
+            RouteLoadMonitor routeLoadMonitor,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${apiforge.rate-limit.enabled:true}") boolean enabled,
+            @Value("${apiforge.rate-limit.user.capacity:200}") long userCapacity,
+            @Value("${apiforge.rate-limit.user.refill-per-second:100}") double userRefillPerSecond,
+            @Value("${apiforge.rate-limit.anonymous.capacity:50}") long anonymousCapacity,
+            @Value("${apiforge.rate-limit.anonymous.refill-per-second:20}") double anonymousRefillPerSecond,
+            @Value("${apiforge.rate-limit.cost.read:1}") long readCost,
+            @Value("${apiforge.rate-limit.cost.write:5}") long writeCost,
+            @Value("${apiforge.rate-limit.cost.rows-per-token:50}") int rowsPerToken,
+            @Value("${apiforge.rate-limit.cost.default-list-limit:100}") int defaultListLimit,
+            @Value("${apiforge.rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor) {
+        super(Config.class);
+        this.rateLimitStore = rateLimitStore;
+        this.routeLoadMonitor = routeLoadMonitor;
+        this.enabled = enabled;
+        this.userPolicy = new BucketPolicy(userCapacity, userRefillPerSecond);
+        this.anonymousPolicy = new BucketPolicy(anonymousCapacity, anonymousRefillPerSecond);
+        this.readCost = readCost;
+        this.writeCost = writeCost;
+        this.rowsPerToken = rowsPerToken;
+        this.defaultListLimit = defaultListLimit;
+        this.trustForwardedFor = trustForwardedFor;
+        // Keyed by route id and content type api id, which @Value cannot express.
+        Binder binder = Binder.get(environment);
+        Bindable<Map<String, Double>> weights = Bindable.mapOf(String.class, Double.class);
+        this.routeWeights = binder.bind("apiforge.rate-limit.cost.route-weights", weights).orElse(Map.of());
+        this.contentTypeWeights = binder.bind("apiforge.rate-limit.cost.content-type-weights", weights).orElse(Map.of());
+        this.allowedCounter = Counter.builder("apiforge.gateway.rate-limit").tag("result", "allowed").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("apiforge.gateway.rate-limit").tag("result", "rejected").register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            if (!enabled) {
+                return chain.filter(exchange);
+            }
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "unknown";
+            JwtClaims claims = exchange.getAttribute(AuthenticationFilter.CLAIMS_ATTRIBUTE);
+            String key = claims != null && claims.userId() != null
+                    ? "user:" + claims.userId()
+                    : "ip:" + clientAddress(exchange.getRequest());
+            BucketPolicy policy = key.startsWith("user:") ? userPolicy : anonymousPolicy;
+
+            return rateLimitStore.tryConsume(key, cost(exchange.getRequest(), routeId), policy)
+                    .map(decision -> admit(exchange, decision))
+                    .onErrorResume(ex -> {
+                        // A shared store being down should not take the API down with it.
+                        log.warn("Rate limit store unavailable, letting request through: {}", ex.getMessage());
+                        return Mono.just(true);
+                    })
+                    .flatMap(admitted -> {
+                        if (!admitted) {
+                            return onError(exchange, "Too many requests", HttpStatus.TOO_MANY_REQUESTS);
+                        }
+                        long start = System.nanoTime();
+                        // Time to the status line, not to the last byte: a streamed export runs as long as the
+                        // client takes to read it, which says nothing about the backend's load.
+                        exchange.getResponse().beforeCommit(() -> {
+                            // Neither do cache hits.
+                            if (exchange.getAttribute(PublicResponseCacheFilter.CACHE_RESULT_ATTRIBUTE) == null) {
+                                routeLoadMonitor.record(routeId, System.nanoTime() - start);
+                            }
+                            return Mono.empty();
+                        });
+                        return chain.filter(exchange);
+                    });
+        };
+    }
+
+    private boolean admit(ServerWebExchange exchange, RateLimitStore.Decision decision) {
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        headers.set(REMAINING_HEADER, Long.toString(decision.remaining()));
+        if (decision.allowed()) {
+            allowedCounter.increment();
+            return true;
+        }
+        rejectedCounter.increment();
+        long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return false;
+    }
+
+    long cost(ServerHttpRequest request, String routeId) {
+        HttpMethod method = request.getMethod();
+        boolean read = HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+        String path = request.getPath().value();
+        double tokens = read ? readCost : writeCost;
+        if (read && isContentList(path)) {
+            tokens += Math.ceil(listLimit(request) / (double) rowsPerToken);
+        }
+        tokens *= routeWeights.getOrDefault(routeId, 1.0);
+        String apiId = AuthenticationFilter.resolveContentTypeApiId(path);
+        if (apiId != null && path.startsWith(CONTENT_PATH_PREFIX)) {
+            tokens *= contentTypeWeights.getOrDefault(apiId, 1.0);
+        }
+        tokens *= routeLoadMonitor.costMultiplier(routeId);
+        return Math.max(1, (long) Math.ceil(tokens));
+    }
+
+    /** {@code /api/content/{apiId}}, which returns a page of entries. */
+    private boolean isContentList(String path) {
+        if (!path.startsWith(CONTENT_PATH_PREFIX)) {
+            return false;
+        }
+        String rest = path.substring(CONTENT_PATH_PREFIX.length());
+        int slash = rest.indexOf('/');
+        return !rest.isEmpty() && (slash < 0 || slash == rest.length() - 1);
+    }
+
+    private int listLimit(ServerHttpRequest request) {
+        String limit = request.getQueryParams().getFirst("limit");
+        if (limit == null) {
+            return defaultListLimit;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(limit));
+        } catch (NumberFormatException e) {
+            return defaultListLimit;
+        }
+    }
+
+    private String clientAddress(ServerHttpRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null ? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString();
+    }
+
+    private Mono<Void> onError(ServerWebExchange exchange, String message, HttpStatus status) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        return response.setComplete();
+    }
+
+    public static class Config {
+    }
+}
@@ -0,0 +1,30 @@
+package com.apiforge.api_gateway.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Buckets in gateway memory. A bucket untouched for {@code idleTtl} is dropped; it would have refilled to
+ * capacity by then anyway, as long as the idle TTL exceeds the time to refill a bucket.
+ */
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public LocalRateLimitStore(long maximumSize, Duration idleTtl) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTtl)
+                .build();
+    }
+
+    @Override
+    public Mono<Decision> tryConsume(String key, long cost, BucketPolicy policy) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(policy, now));
+        return Mono.just(bucket.tryConsume(cost, policy, now));
+    }
+}
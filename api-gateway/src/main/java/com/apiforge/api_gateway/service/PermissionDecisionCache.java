@@ -0,0 +1,180 @@
+package com.apiforge.api_gateway.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memoizes permission-service API checks. Concurrent misses for the same key share one in-flight request,
+ * denials are cached too (for a shorter time) so that probing a forbidden endpoint does not hit
+ * permission-service, and failed checks are never cached. Hit rates are published as
+ * {@code cache.gets{cache=gateway.permission-decisions}}, and the remote checks behind the misses as
+ * {@code apiforge.gateway.permission.remote}.
+ *
+ * <p>Remote checks go through the {@code permission-service} circuit breaker, so while permission-service
+ * is failing, misses fail fast instead of each waiting for a timeout. When a check fails, the last decision
+ * seen for the key is used if it is younger than {@code max-stale} and has not been invalidated by a
+ * permission change ({@code apiforge.gateway.permission.stale} counts these). Without one the error is
+ * passed on.
+ *
+ * <p>Invalidation also drops checks still in flight, and every load remembers the invalidation generation
+ * of its content type when it started: a check that was sent before a permission change answers the
+ * requests already waiting for it, but its decision is neither cached nor kept as a fallback.
+ */
+@Component
+public class PermissionDecisionCache {
+
+    record DecisionKey(String contentTypeApiId, String endpoint, String method, List<String> roles) {
+    }
+
+    private final WebClient webClient;
+    private static final Logger log = LoggerFactory.getLogger(PermissionDecisionCache.class);
+
+    private final AsyncCache<DecisionKey, Boolean> cache;
+    /** Last successful decision per key, kept past the cache TTL for use while permission-service is down. */
+    private final Cache<DecisionKey, Boolean> lastKnown;
+    private final CircuitBreaker circuitBreaker;
+    private final Timer remoteCheckTimer;
+    private final Counter staleDecisions;
+    /** Bumped by {@link #invalidateAll} and {@link #expireAll}. */
+    private final AtomicLong allGeneration = new AtomicLong();
+    /** Bumped by {@link #invalidate}; only content types named by permission events get an entry. */
+    private final Map<String, AtomicLong> typeGenerations = new ConcurrentHashMap<>();
+
+    public PermissionDecisionCache(
+            @Qualifier("permissionServiceWebClient") WebClient webClient,
+            @Value("${apiforge.permission-cache.maximum-size:10000}") long maximumSize,
+            @Value("${apiforge.permission-cache.ttl:10m}") Duration ttl,
+            @Value("${apiforge.permission-cache.negative-ttl:1m}") Duration negativeTtl,
+            @Value("${apiforge.permission-cache.max-stale:1h}") Duration maxStale,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((DecisionKey key, Boolean allowed) -> allowed ? ttl : negativeTtl))
+                .recordStats()
+                .buildAsync();
+        this.lastKnown = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(maxStale)
+                .build();
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("permission-service");
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.permission-decisions");
+        this.remoteCheckTimer = Timer.builder("apiforge.gateway.permission.remote").register(meterRegistry);
+        this.staleDecisions = Counter.builder("apiforge.gateway.permission.stale").register(meterRegistry);
+    }
+
+    public Mono<Boolean> isAllowed(String contentTypeApiId, String endpoint, String method, List<String> roles) {
+        DecisionKey key = new DecisionKey(contentTypeApiId, endpoint, method, roles.stream().sorted().toList());
+        // suppressCancel: the future is shared by every request waiting on this key, so one client going
+        // away must not cancel it for the others. The loading request's context is handed to the remote
+        // check, so it is traced as part of that request.
+        return Mono.deferContextual(context -> Mono.fromFuture(
+                        cache.get(key, (k, executor) -> load(k, context, executor)), true))
+                .onErrorResume(ex -> {
+                    Boolean stale = lastKnown.getIfPresent(key);
+                    if (stale == null) {
+                        return Mono.error(ex);
+                    }
+                    log.debug("Permission check failed ({}), using last known decision", ex.toString());
+                    staleDecisions.increment();
+                    return Mono.just(stale);
+                });
+    }
+
+    /** Drops every decision for the content type, including the fallback copies: its rules changed. */
+    public void invalidate(String contentTypeApiId) {
+        typeGenerations.computeIfAbsent(contentTypeApiId, apiId -> new AtomicLong()).incrementAndGet();
+        // The async view, unlike synchronous().asMap(), includes checks that are still loading.
+        cache.asMap().keySet().removeIf(key -> key.contentTypeApiId().equals(contentTypeApiId));
+        lastKnown.asMap().keySet().removeIf(key -> key.contentTypeApiId().equals(contentTypeApiId));
+    }
+
+    public void invalidateAll() {
+        allGeneration.incrementAndGet();
+        cache.asMap().clear();
+        lastKnown.invalidateAll();
+    }
+
+    /**
+     * Forces fresh checks without discarding the fallback copies. Used when the change stream drops: changes
+     * may have been missed, but if permission-service itself is down the last decisions are still the best
+     * answer available.
+     */
+    public void expireAll() {
+        allGeneration.incrementAndGet();
+        cache.asMap().clear();
+    }
+
+    /**
+     * Both counters only grow, so the sum moves whenever either does.
+     */
+    private long generation(String contentTypeApiId) {
+        AtomicLong typeGeneration = typeGenerations.get(contentTypeApiId);
+        return allGeneration.get() + (typeGeneration != null ? typeGeneration.get() : 0);
+    }
+
+    private CompletableFuture<Boolean> load(DecisionKey key, ContextView context, Executor executor) {
+        long generation = generation(key.contentTypeApiId());
+        CompletableFuture<Boolean> future = check(key)
+                .doOnNext(allowed -> {
+                    if (generation(key.contentTypeApiId()) == generation) {
+                        lastKnown.put(key, allowed);
+                    }
+                })
+                .contextWrite(context)
+                .toFuture();
+        // An invalidation can run between taking the generation and Caffeine publishing the future, and then
+        // miss it. Async, as the future may already be complete while Caffeine is still inserting it.
+        future.whenCompleteAsync((allowed, ex) -> {
+            if (generation(key.contentTypeApiId()) != generation) {
+                cache.asMap().remove(key, future);
+            }
+        }, executor);
+        return future;
+    }
+
+    private Mono<Boolean> check(DecisionKey key) {
+        Map<String, Object> payload = Map.of(
+                "contentTypeApiId", key.contentTypeApiId(),
+                "endpoint", key.endpoint(),
+                "method", key.method(),
+                "userRoles", key.roles()
+        );
+        Timer.Sample sample = Timer.start();
+        return webClient.post()
+                .uri("/api/permissions/api/check")
+                .bodyValue(payload)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .map(response -> Boolean.TRUE.equals(response.get("data")))
+                .defaultIfEmpty(Boolean.FALSE)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .doFinally(signal -> sample.stop(remoteCheckTimer));
+    }
+}
@@ -0,0 +1,139 @@
+package com.apiforge.api_gateway.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Follows permission-service's change stream and evicts the affected entries from
+ * {@link PermissionDecisionCache}, and from {@link PublicResponseCache} for content permission changes. The
+ * stream starts with a {@code snapshot} event carrying the current version; any version that is not exactly
+ * one past the last one seen means events were missed (a reconnect or a permission-service restart), and the
+ * whole cache is dropped instead. The same happens whenever the stream ends, by error or normal completion.
+ */
+@Component
+public class PermissionEventSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionEventSubscriber.class);
+
+    private static final ParameterizedTypeReference<ServerSentEvent<Map<String, Object>>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final PermissionDecisionCache permissionDecisionCache;
+    private final PublicResponseCache publicResponseCache;
+    private final boolean enabled;
+    private final Duration maxBackoff;
+
+    private volatile long lastVersion = -1;
+    private volatile Disposable subscription;
+
+    public PermissionEventSubscriber(
+            @Qualifier("permissionEventsWebClient") WebClient webClient,
+            PermissionDecisionCache permissionDecisionCache,
+            PublicResponseCache publicResponseCache,
+            @Value("${apiforge.permission-events.enabled:true}") boolean enabled,
+            @Value("${apiforge.permission-events.max-backoff:30s}") Duration maxBackoff) {
+        this.webClient = webClient;
+        this.permissionDecisionCache = permissionDecisionCache;
+        this.publicResponseCache = publicResponseCache;
+        this.enabled = enabled;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        subscription = webClient.get()
+                .uri("/internal/permission-matrix/events")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(EVENT_TYPE)
+                .doOnNext(this::onEvent)
+                .doOnError(ex -> {
+                    log.debug("Permission event stream failed: {}", ex.getMessage());
+                    onDisconnect();
+                })
+                .doOnComplete(() -> {
+                    log.debug("Permission event stream closed by permission-service");
+                    onDisconnect();
+                })
+                .repeatWhen(completed -> completed.delayElements(Duration.ofSeconds(1)))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(maxBackoff)
+                        .transientErrors(true))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Changes made while disconnected are unknown, so stop trusting what is cached, whether the stream
+     * failed or was closed cleanly.
+     */
+    private void onDisconnect() {
+        permissionDecisionCache.expireAll();
+        publicResponseCache.invalidateAll();
+    }
+
+    private void onEvent(ServerSentEvent<Map<String, Object>> event) {
+        Map<String, Object> data = event.data();
+        if (data == null || !(data.get("version") instanceof Number number)) {
+            return;
+        }
+        long version = number.longValue();
+        long previous = lastVersion;
+        lastVersion = version;
+
+        if ("snapshot".equals(event.event())) {
+            if (version != previous) {
+                permissionDecisionCache.invalidateAll();
+                publicResponseCache.invalidateAll();
+            }
+            return;
+        }
+        if (version != previous + 1) {
+            permissionDecisionCache.invalidateAll();
+            publicResponseCache.invalidateAll();
+            return;
+        }
+        if (!"API".equals(data.get("scope"))) {
+            // Content permissions are enforced by content-service, so responses cached under the old ones go.
+            if (data.get("contentTypeApiIds") instanceof Collection<?> apiIds) {
+                apiIds.forEach(apiId -> publicResponseCache.invalidate(String.valueOf(apiId)));
+            } else {
+                publicResponseCache.invalidateAll();
+            }
+            return;
+        }
+        if (data.get("contentTypeApiIds") instanceof Collection<?> apiIds) {
+            apiIds.forEach(apiId -> permissionDecisionCache.invalidate(String.valueOf(apiId)));
+        } else {
+            permissionDecisionCache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.apiforge.api_gateway.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gateway-memory copies of content responses served to anonymous (PUBLIC role) clients, bounded by total
+ * body size with Caffeine's W-TinyLFU eviction. An entry is fresh for {@code ttl}; for another
+ * {@code stale-while-revalidate} it is still served while one background request to content-service
+ * (conditional, with the stored ETag) refreshes it. Entries stored with {@code Cache-Control: no-cache} are
+ * never fresh: each use waits for such a conditional request, as RFC 9111 requires.
+ *
+ * Entries are dropped for a content type when a write to it passes the gateway or its content permissions
+ * change; entries of populated requests, which embed other content types and media, on any content or media
+ * write. Writes that bypass the gateway are only picked up when entries expire. Every invalidation bumps a
+ * generation, and responses read before it are not stored, so a slow read cannot re-cache pre-write data.
+ */
+@Component
+public class PublicResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicResponseCache.class);
+
+    /**
+     * Request headers a stored response may vary on. The key is path and query only; these are safe because
+     * CORS headers are not stored but set by the gateway on every response, and the Access-Control-Request-*
+     * headers only come with preflights, which are never cached.
+     */
+    private static final Set<String> KEY_NEUTRAL_VARY = Set.of(
+            "origin", "access-control-request-method", "access-control-request-headers");
+
+    /**
+     * A stored 200 response. {@code headers} are the backend's, without per-request gateway headers.
+     */
+    public static final class CachedResponse {
+        private final String apiId;
+        private final boolean populated;
+        private final URI backendUri;
+        private final HttpHeaders headers;
+        private final byte[] body;
+        private final long storedAt;
+        private final boolean noCache;
+        private final AtomicBoolean revalidating = new AtomicBoolean();
+
+        public CachedResponse(String apiId, boolean populated, URI backendUri, HttpHeaders headers, byte[] body,
+                              long storedAt) {
+            this.apiId = apiId;
+            this.populated = populated;
+            this.backendUri = backendUri;
+            this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+            this.body = body;
+            this.storedAt = storedAt;
+            String cacheControl = headers.getCacheControl();
+            this.noCache = cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-cache");
+        }
+
+        public HttpHeaders getHeaders() { return headers; }
+        public byte[] getBody() { return body; }
+        public long getStoredAt() { return storedAt; }
+
+        /** Whether the origin asked for revalidation on every use ({@code Cache-Control: no-cache}). */
+        public boolean requiresRevalidation() { return noCache; }
+
+        CachedResponse restamp(long now) {
+            return new CachedResponse(apiId, populated, backendUri, headers, body, now);
+        }
+    }
+
+    private final WebClient webClient;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final long maxEntryBytes;
+    private final Cache<String, CachedResponse> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PublicResponseCache(
+            @Qualifier("serviceWebClient") WebClient webClient,
+            @Value("${apiforge.response-cache.enabled:false}") boolean enabled,
+            @Value("${apiforge.response-cache.max-memory:64MB}") DataSize maxMemory,
+            @Value("${apiforge.response-cache.max-entry-size:512KB}") DataSize maxEntrySize,
+            @Value("${apiforge.response-cache.ttl:30s}") Duration ttl,
+            @Value("${apiforge.response-cache.stale-while-revalidate:30s}") Duration staleWhileRevalidate,
+            MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.staleNanos = staleWhileRevalidate.toNanos();
+        this.maxEntryBytes = maxEntrySize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((String key, CachedResponse response) -> response.body.length + key.length())
+                .expireAfterWrite(ttl.plus(staleWhileRevalidate))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.public-responses");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /**
+     * Taken before a backend read and handed back to {@link #put}.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public boolean isFresh(CachedResponse response, long now) {
+        return !response.noCache && now - response.storedAt < ttlNanos;
+    }
+
+    public void put(String key, CachedResponse response, long readGeneration) {
+        if (generation.get() == readGeneration) {
+            cache.put(key, response);
+        }
+    }
+
+    /**
+     * Starts a background refresh of a stale entry unless one is already running.
+     */
+    public void revalidate(String key, CachedResponse stale) {
+        if (staleNanos == 0 || !stale.revalidating.compareAndSet(false, true)) {
+            return;
+        }
+        revalidateNow(key, stale)
+                .doOnError(ex -> log.debug("Revalidating {} failed: {}", stale.backendUri, ex.getMessage()))
+                .doFinally(signal -> stale.revalidating.set(false))
+                .subscribe(refreshed -> { }, ex -> { });
+    }
+
+    /**
+     * Asks content-service whether a stored entry is still current, with the stored ETag, and stores the
+     * answer: the entry restamped on 304, or the new response on a storable 200.
+     *
+     * @return the entry to serve, or empty when the response is no longer storable and the entry was dropped
+     */
+    public Mono<CachedResponse> revalidateNow(String key, CachedResponse stored) {
+        long readGeneration = generation();
+        return webClient.get()
+                .uri(stored.backendUri)
+                .headers(headers -> {
+                    // The same identity AuthenticationFilter forwards for anonymous requests.
+                    headers.set("X-User-Id", "");
+                    headers.set("X-Username", "public");
+                    headers.set("X-User-Roles", "PUBLIC");
+                    String eTag = stored.headers.getETag();
+                    if (eTag != null) {
+                        headers.setIfNoneMatch(eTag);
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        return Mono.just(stored.restamp(System.nanoTime()));
+                    }
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    if (!response.statusCode().isSameCodeAs(HttpStatus.OK) || !isCacheable(headers)) {
+                        return response.releaseBody().then(Mono.<CachedResponse>empty());
+                    }
+                    return response.bodyToMono(byte[].class)
+                            .defaultIfEmpty(new byte[0])
+                            .filter(body -> body.length <= maxEntryBytes)
+                            .map(body -> new CachedResponse(stored.apiId, stored.populated, stored.backendUri,
+                                    storableHeaders(headers), body, System.nanoTime()));
+                })
+                .doOnNext(refreshed -> put(key, refreshed, readGeneration))
+                .switchIfEmpty(Mono.fromRunnable(() -> cache.asMap().remove(key, stored)));
+    }
+
+    /**
+     * Drops the entries of one content type and every populated entry.
+     */
+    public void invalidate(String apiId) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(response -> response.populated || response.apiId.equals(apiId));
+    }
+
+    /**
+     * Drops populated entries, which embed media and other content types.
+     */
+    public void invalidatePopulated() {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(response -> response.populated);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Whether a 200 response may be stored, judging by its headers. Responses that vary on a request header
+     * the cache key does not contain are refused, as one client's variant would be served to all.
+     */
+    public static boolean isCacheable(HttpHeaders headers) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE) || headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return false;
+        }
+        for (String varied : headers.getVary()) {
+            if (!KEY_NEUTRAL_VARY.contains(varied.trim().toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+        }
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return true;
+        }
+        String directives = cacheControl.toLowerCase(Locale.ROOT);
+        return !directives.contains("no-store") && !directives.contains("private");
+    }
+
+    /**
+     * The headers worth replaying: hop-by-hop and framing headers are recomputed per response, and CORS and
+     * rate limit headers are set by the gateway for each request.
+     */
+    public static HttpHeaders storableHeaders(HttpHeaders headers) {
+        HttpHeaders stored = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (!lower.startsWith("access-control-") && !lower.startsWith("x-ratelimit-")
+                    && !lower.equals("content-length") && !lower.equals("transfer-encoding")
+                    && !lower.equals("connection") && !lower.equals("keep-alive") && !lower.equals("date")) {
+                stored.put(name, values);
+            }
+        });
+        return stored;
+    }
+}
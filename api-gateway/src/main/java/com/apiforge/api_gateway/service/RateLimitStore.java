@@ -0,0 +1,33 @@
+package com.apiforge.api_gateway.service;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Holds the token buckets behind {@code RateLimitFilter}. The default {@link LocalRateLimitStore} keeps them
+ * in gateway memory, so each gateway instance enforces its own share of a quota. A store backed by a shared
+ * system (e.g. Redis) can be plugged in by setting {@code apiforge.rate-limit.store} to another value and
+ * registering a bean of this type.
+ */
+public interface RateLimitStore {
+
+    /**
+     * @param capacity        burst size, in tokens
+     * @param refillPerSecond sustained rate, in tokens per second
+     */
+    record BucketPolicy(long capacity, double refillPerSecond) {
+    }
+
+    /**
+     * @param remaining  whole tokens left after this request
+     * @param retryAfter when the bucket will hold enough tokens for the request; zero when allowed
+     */
+    record Decision(boolean allowed, long remaining, Duration retryAfter) {
+    }
+
+    /**
+     * Takes {@code cost} tokens from the bucket for {@code key} if it holds that many.
+     */
+    Mono<Decision> tryConsume(String key, long cost, BucketPolicy policy);
+}
@@ -0,0 +1,53 @@
+package com.apiforge.api_gateway.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks an exponentially weighted moving average of each route's time to first byte (until the response is
+ * committed, so long streamed bodies do not count). While a route is slower than {@code target-latency},
+ * {@link #costMultiplier} grows with the slowdown (up to {@code max-multiplier}), so clients of an overloaded
+ * backend run out of tokens and get 429s before their requests queue up into timeouts.
+ */
+@Component
+public class RouteLoadMonitor {
+
+    private static final double ALPHA = 0.2;
+
+    private final boolean enabled;
+    private final double targetNanos;
+    private final double maxMultiplier;
+    /** Route id -> EWMA in nanoseconds, stored as double bits so it can be updated with compare-and-set. */
+    private final Map<String, AtomicLong> averages = new ConcurrentHashMap<>();
+
+    public RouteLoadMonitor(
+            @Value("${apiforge.rate-limit.adaptive.enabled:true}") boolean enabled,
+            @Value("${apiforge.rate-limit.adaptive.target-latency:500ms}") Duration targetLatency,
+            @Value("${apiforge.rate-limit.adaptive.max-multiplier:4}") double maxMultiplier) {
+        this.enabled = enabled;
+        this.targetNanos = targetLatency.toNanos();
+        this.maxMultiplier = maxMultiplier;
+    }
+
+    public void record(String routeId, long elapsedNanos) {
+        if (!enabled) {
+            return;
+        }
+        AtomicLong average = averages.computeIfAbsent(routeId, id -> new AtomicLong(Double.doubleToLongBits(elapsedNanos)));
+        average.getAndUpdate(bits -> Double.doubleToLongBits(ALPHA * elapsedNanos + (1 - ALPHA) * Double.longBitsToDouble(bits)));
+    }
+
+    public double costMultiplier(String routeId) {
+        AtomicLong average = enabled ? averages.get(routeId) : null;
+        if (average == null) {
+            return 1.0;
+        }
+        double ratio = Double.longBitsToDouble(average.get()) / targetNanos;
+        return Math.max(1.0, Math.min(maxMultiplier, ratio));
+    }
+}
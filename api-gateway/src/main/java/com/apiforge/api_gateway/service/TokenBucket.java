@@ -0,0 +1,47 @@
+package com.apiforge.api_gateway.service;
+
+import com.apiforge.api_gateway.service.RateLimitStore.BucketPolicy;
+import com.apiforge.api_gateway.service.RateLimitStore.Decision;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. Tokens are refilled lazily from the time elapsed since the last take, and the
+ * (tokens, time) pair is swapped with a compare-and-set, so concurrent requests for one client never block
+ * each other.
+ */
+final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private record State(double tokens, long refilledAt) {
+    }
+
+    private final AtomicReference<State> state;
+
+    TokenBucket(BucketPolicy policy, long nowNanos) {
+        this.state = new AtomicReference<>(new State(policy.capacity(), nowNanos));
+    }
+
+    /**
+     * A cost larger than the bucket is charged as a full bucket, so such a request is possible at all.
+     */
+    Decision tryConsume(long cost, BucketPolicy policy, long nowNanos) {
+        double charge = Math.min(cost, policy.capacity());
+        while (true) {
+            State current = state.get();
+            long refilledAt = Math.max(current.refilledAt(), nowNanos);
+            double elapsedSeconds = (refilledAt - current.refilledAt()) / NANOS_PER_SECOND;
+            double available = Math.min(policy.capacity(), current.tokens() + elapsedSeconds * policy.refillPerSecond());
+            if (available < charge) {
+                long waitNanos = (long) Math.ceil((charge - available) / policy.refillPerSecond() * NANOS_PER_SECOND);
+                return new Decision(false, (long) available, Duration.ofNanos(waitNanos));
+            }
+            State next = new State(available - charge, refilledAt);
+            if (state.compareAndSet(current, next)) {
+                return new Decision(true, (long) next.tokens(), Duration.ZERO);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.apiforge.api_gateway.service;
+
+import com.apiforge.common.util.JwtClaims;
+import com.apiforge.common.util.JwtUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Remembers tokens that already passed signature verification, so a client reusing its bearer token skips
+ * the HMAC check and claim parsing on every request. Entries expire with the token itself (capped by a
+ * configurable maximum), and the cache is keyed by a SHA-256 of the token so raw credentials are not kept
+ * in memory. Only successful verifications are cached.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, JwtClaims> cache;
+
+    public VerifiedTokenCache(
+            JwtUtil jwtUtil,
+            @Value("${apiforge.token-cache.maximum-size:50000}") long maximumSize,
+            @Value("${apiforge.token-cache.max-ttl:15m}") Duration maxTtl,
+            MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((String key, JwtClaims claims) -> ttl(claims, maxTtl)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.verified-tokens");
+    }
+
+    /**
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
+    public JwtClaims verify(String token) {
+        JwtClaims claims = cache.get(hash(token), key -> jwtUtil.parseToken(token));
+        // Expiry is only as precise as Caffeine's timer wheel; never hand out a token past its exp.
+        if (claims.isExpired(Instant.now())) {
+            cache.invalidate(hash(token));
+            return jwtUtil.parseToken(token);
+        }
+        return claims;
+    }
+
+    private static Duration ttl(JwtClaims claims, Duration maxTtl) {
+        if (claims.expiresAt() == null) {
+            return maxTtl;
+        }
+        Duration remaining = Duration.between(Instant.now(), claims.expiresAt());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.apiforge.api_gateway.filter;
+
+import com.apiforge.api_gateway.service.PublicResponseCache;
+import com.apiforge.api_gateway.service.PublicResponseCache.CachedResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicResponseCacheFilterTest {
+
+    private static final String KEY = "/api/content/article?limit=20";
+
+    private final AtomicInteger revalidations = new AtomicInteger();
+    private final Sinks.One<ClientResponse> backendResponse = Sinks.one();
+    private Supplier<Mono<ClientResponse>> backend = backendResponse::asMono;
+    private final AtomicInteger chainCalls = new AtomicInteger();
+    private final GatewayFilterChain chain = exchange -> {
+        chainCalls.incrementAndGet();
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return exchange.getResponse().setComplete();
+    };
+
+    @Test
+    void servesAStaleEntryAndRevalidatesItOnce() {
+        PublicResponseCache cache = cache(Duration.ZERO);
+        GatewayFilter filter = filter(cache);
+        CachedResponse stale = entry(false);
+        cache.put(KEY, stale, cache.generation());
+
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get(KEY));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get(KEY));
+        filter.filter(first, chain).block();
+        filter.filter(second, chain).block();
+
+        assertEquals("STALE", first.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("[1]", second.getResponse().getBodyAsString().block());
+        assertEquals(0, chainCalls.get());
+        assertEquals(1, revalidations.get());
+
+        backendResponse.tryEmitValue(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+
+        CachedResponse restamped = cache.get(KEY);
+        assertNotSame(stale, restamped);
+        assertTrue(restamped.getStoredAt() > stale.getStoredAt());
+    }
+
+    @Test
+    void neverServesANoCacheEntryWithoutAskingContentService() {
+        backend = () -> Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+        PublicResponseCache cache = cache(Duration.ofSeconds(30));
+        CachedResponse stored = noCacheEntry("[1]");
+        cache.put(KEY, stored, cache.generation());
+        GatewayFilter filter = filter(cache);
+
+        for (int request = 1; request <= 2; request++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(KEY));
+            filter.filter(exchange, chain).block();
+
+            assertEquals("REVALIDATED", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+            assertEquals("no-cache", exchange.getResponse().getHeaders().getCacheControl());
+            assertEquals("[1]", exchange.getResponse().getBodyAsString().block());
+            assertEquals(request, revalidations.get());
+        }
+        assertEquals(0, chainCalls.get());
+        assertTrue(cache.get(KEY).getStoredAt() > stored.getStoredAt());
+    }
+
+    @Test
+    void replacesANoCacheEntryWhenContentServiceHasANewVersion() {
+        backend = () -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, "W/\"v2\"")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .body("[2]")
+                .build());
+        PublicResponseCache cache = cache(Duration.ofSeconds(30));
+        cache.put(KEY, noCacheEntry("[1]"), cache.generation());
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(KEY));
+        filter(cache).filter(exchange, chain).block();
+
+        assertEquals("REVALIDATED", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("[2]", exchange.getResponse().getBodyAsString().block());
+        assertEquals("W/\"v2\"", cache.get(KEY).getHeaders().getETag());
+    }
+
+    @Test
+    void fallsThroughToTheRouteWhenANoCacheEntryCannotBeRevalidated() {
+        backend = () -> Mono.error(new IllegalStateException("connection refused"));
+        PublicResponseCache cache = cache(Duration.ofSeconds(30));
+        cache.put(KEY, noCacheEntry("[1]"), cache.generation());
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(KEY));
+        filter(cache).filter(exchange, chain).block();
+
+        assertEquals("MISS", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(1, chainCalls.get());
+    }
+
+    @Test
+    void answersAMatchingIfNoneMatchFromAFreshEntry() {
+        PublicResponseCache cache = cache(Duration.ofSeconds(30));
+        cache.put(KEY, entry(false), cache.generation());
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(KEY)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"v1\""));
+        filter(cache).filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, exchange.getResponse().getStatusCode());
+        assertEquals("HIT", exchange.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(0, revalidations.get());
+    }
+
+    @Test
+    void bypassesTheCacheForAuthenticatedRequests() {
+        PublicResponseCache cache = cache(Duration.ofSeconds(30));
+        cache.put(KEY, entry(false), cache.generation());
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(KEY)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token"));
+        filter(cache).filter(exchange, chain).block();
+
+        assertEquals(1, chainCalls.get());
+        assertNull(exchange.getResponse().getHeaders().getFirst("X-Cache"));
+    }
+
+    @Test
+    void successfulWritesDropTheirContentTypeAndPopulatedEntries() {
+        PublicResponseCache cache = cache(Duration.ofSeconds(30));
+        cache.put(KEY, entry(false), cache.generation());
+        cache.put("/api/content/author?populate=*", entry(true), cache.generation());
+        cache.put("/api/content/author", new CachedResponse("author", false, URI.create("http://localhost:7083"),
+                new HttpHeaders(), new byte[0], System.nanoTime()), cache.generation());
+        GatewayFilter filter = filter(cache);
+
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.post("/api/content/article/query")), chain)
+                .block();
+        assertNotNull(cache.get(KEY));
+
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.post("/api/content/article")), chain).block();
+        assertNull(cache.get(KEY));
+        assertNull(cache.get("/api/content/author?populate=*"));
+        assertNotNull(cache.get("/api/content/author"));
+    }
+
+    private GatewayFilter filter(PublicResponseCache cache) {
+        return new PublicResponseCacheFilter(cache, new SimpleMeterRegistry())
+                .apply(new PublicResponseCacheFilter.Config());
+    }
+
+    private PublicResponseCache cache(Duration ttl) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    revalidations.incrementAndGet();
+                    return backend.get();
+                })
+                .build();
+        return new PublicResponseCache(webClient, true, DataSize.ofMegabytes(1), DataSize.ofKilobytes(1), ttl,
+                Duration.ofSeconds(30), new SimpleMeterRegistry());
+    }
+
+    private static CachedResponse noCacheEntry(String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("W/\"v1\"");
+        headers.setCacheControl("no-cache");
+        return new CachedResponse("article", false, URI.create("http://localhost:7083" + KEY), headers,
+                body.getBytes(StandardCharsets.UTF_8), System.nanoTime());
+    }
+
+    private static CachedResponse entry(boolean populated) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"v1\"");
+        return new CachedResponse("article", populated, URI.create("http://localhost:7083" + KEY), headers,
+                "[1]".getBytes(StandardCharsets.UTF_8), System.nanoTime());
+    }
+}
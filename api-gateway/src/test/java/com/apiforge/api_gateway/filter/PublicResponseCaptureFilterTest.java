@@ -0,0 +1,94 @@
+package com.apiforge.api_gateway.filter;
+
+import com.apiforge.api_gateway.filter.PublicResponseCaptureFilter.Pending;
+import com.apiforge.api_gateway.service.PublicResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PublicResponseCaptureFilterTest {
+
+    private static final String KEY = "/api/content/article?limit=20";
+
+    private final PublicResponseCache cache = new PublicResponseCache(WebClient.create(), true,
+            DataSize.ofMegabytes(1), DataSize.ofBytes(16), Duration.ofSeconds(30), Duration.ofSeconds(30),
+            new SimpleMeterRegistry());
+    private final PublicResponseCaptureFilter filter = new PublicResponseCaptureFilter(cache);
+
+    @Test
+    void storesAPendingOkResponseAsItIsWritten() {
+        MockServerWebExchange exchange = pendingExchange();
+
+        filter.filter(exchange, respond("[1,2,3]", headers -> headers.setETag("\"v1\""))).block();
+
+        assertEquals("[1,2,3]", exchange.getResponse().getBodyAsString().block());
+        assertArrayEquals("[1,2,3]".getBytes(StandardCharsets.UTF_8), cache.get(KEY).getBody());
+        assertEquals("\"v1\"", cache.get(KEY).getHeaders().getETag());
+    }
+
+    @Test
+    void doesNotStoreBodiesOverTheEntryLimit() {
+        MockServerWebExchange exchange = pendingExchange();
+
+        filter.filter(exchange, respond("[1,2,3,4,5,6,7,8,9]", headers -> { })).block();
+
+        assertEquals("[1,2,3,4,5,6,7,8,9]", exchange.getResponse().getBodyAsString().block());
+        assertNull(cache.get(KEY));
+    }
+
+    @Test
+    void doesNotStoreCookiesOrNoStoreResponses() {
+        filter.filter(pendingExchange(), respond("[]", headers -> headers.add(HttpHeaders.SET_COOKIE, "s=1"))).block();
+        assertNull(cache.get(KEY));
+
+        filter.filter(pendingExchange(), respond("[]", headers -> headers.setCacheControl("no-store"))).block();
+        assertNull(cache.get(KEY));
+    }
+
+    @Test
+    void doesNotStoreAResponseReadAcrossAWrite() {
+        MockServerWebExchange exchange = pendingExchange();
+        GatewayFilterChain backend = respond("[]", headers -> { });
+
+        filter.filter(exchange, mutated -> {
+            cache.invalidate("article");
+            return backend.filter(mutated);
+        }).block();
+
+        assertNull(cache.get(KEY));
+    }
+
+    private MockServerWebExchange pendingExchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(KEY));
+        exchange.getAttributes().put(PublicResponseCaptureFilter.PENDING_ATTRIBUTE, new Pending(KEY, "article",
+                false, URI.create("http://localhost:7083" + KEY), cache.generation()));
+        return exchange;
+    }
+
+    private static GatewayFilterChain respond(String body, Consumer<HttpHeaders> headers) {
+        return exchange -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            headers.accept(response.getHeaders());
+            return response.writeWith(Mono.just(response.bufferFactory()
+                    .wrap(body.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+}
@@ -0,0 +1,119 @@
+package com.apiforge.api_gateway.service;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PermissionDecisionCacheTest {
+
+    private static final List<String> PUBLIC = List.of("PUBLIC");
+
+    /** One pending response per remote check, in the order the checks were sent. */
+    private final List<Sinks.One<ClientResponse>> checks = new ArrayList<>();
+    private final PermissionDecisionCache cache = new PermissionDecisionCache(
+            WebClient.builder()
+                    .exchangeFunction(request -> {
+                        Sinks.One<ClientResponse> response = Sinks.one();
+                        checks.add(response);
+                        return response.asMono();
+                    })
+                    .build(),
+            100, Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofHours(1),
+            CircuitBreakerRegistry.ofDefaults(), new SimpleMeterRegistry());
+
+    @Test
+    void sharesOneCheckAndCachesItsDecision() {
+        CompletableFuture<Boolean> first = isAllowed();
+        CompletableFuture<Boolean> second = isAllowed();
+        assertEquals(1, checks.size());
+
+        answer(0, true);
+
+        assertTrue(first.join());
+        assertTrue(second.join());
+        assertTrue(isAllowed().join());
+        assertEquals(1, checks.size());
+    }
+
+    @Test
+    void doesNotKeepADecisionLoadedAcrossAnInvalidation() {
+        CompletableFuture<Boolean> inFlight = isAllowed();
+        cache.invalidate("article");
+        answer(0, true);
+
+        // The request that was already waiting gets the answer it asked for.
+        assertTrue(inFlight.join());
+
+        // The next one asks again, and the old decision is not a fallback when that check fails.
+        CompletableFuture<Boolean> next = isAllowed();
+        assertEquals(2, checks.size());
+        checks.get(1).tryEmitError(new WebClientRequestException(new IllegalStateException("refused"),
+                HttpMethod.POST, URI.create("http://permission-service"),
+                new HttpHeaders()));
+        assertThrows(Exception.class, next::join);
+    }
+
+    @Test
+    void invalidateAllDropsChecksInFlight() {
+        assertDropsCheckInFlight(PermissionDecisionCache::invalidateAll);
+    }
+
+    @Test
+    void expireAllDropsChecksInFlight() {
+        assertDropsCheckInFlight(PermissionDecisionCache::expireAll);
+    }
+
+    @Test
+    void invalidatingAnotherContentTypeKeepsTheDecision() {
+        CompletableFuture<Boolean> inFlight = isAllowed();
+        cache.invalidate("author");
+        answer(0, false);
+
+        assertFalse(inFlight.join());
+        assertFalse(isAllowed().join());
+        assertEquals(1, checks.size());
+    }
+
+    private void assertDropsCheckInFlight(Consumer<PermissionDecisionCache> invalidation) {
+        CompletableFuture<Boolean> inFlight = isAllowed();
+        invalidation.accept(cache);
+        answer(0, false);
+        assertFalse(inFlight.join());
+
+        CompletableFuture<Boolean> next = isAllowed();
+        assertEquals(2, checks.size());
+        answer(1, true);
+        assertTrue(next.join());
+    }
+
+    private CompletableFuture<Boolean> isAllowed() {
+        return cache.isAllowed("article", "/api/content/article", "GET", PUBLIC).toFuture();
+    }
+
+    private void answer(int check, boolean allowed) {
+        checks.get(check).tryEmitValue(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"success\":true,\"data\":" + allowed + "}")
+                .build());
+    }
+}
@@ -0,0 +1,125 @@
+package com.apiforge.api_gateway.service;
+
+import com.apiforge.api_gateway.service.PublicResponseCache.CachedResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicResponseCacheTest {
+
+    private final List<ClientRequest> backendRequests = new ArrayList<>();
+    private final Sinks.One<ClientResponse> backendResponse = Sinks.one();
+
+    @Test
+    void doesNotStoreAReadThatStartedBeforeAWrite() {
+        PublicResponseCache cache = cache(Duration.ofSeconds(30));
+        long readGeneration = cache.generation();
+
+        cache.invalidate("article");
+        cache.put("/api/content/article", entry("article", false, "old"), readGeneration);
+        assertNull(cache.get("/api/content/article"));
+
+        cache.put("/api/content/article", entry("article", false, "new"), cache.generation());
+        assertNotNull(cache.get("/api/content/article"));
+    }
+
+    @Test
+    void invalidatingAContentTypeAlsoDropsPopulatedEntries() {
+        PublicResponseCache cache = cache(Duration.ofSeconds(30));
+        long generation = cache.generation();
+        cache.put("/api/content/article", entry("article", false, "a"), generation);
+        cache.put("/api/content/author?populate=*", entry("author", true, "b"), generation);
+        cache.put("/api/content/author", entry("author", false, "c"), generation);
+
+        cache.invalidate("article");
+
+        assertNull(cache.get("/api/content/article"));
+        assertNull(cache.get("/api/content/author?populate=*"));
+        assertNotNull(cache.get("/api/content/author"));
+    }
+
+    @Test
+    void revalidatesAStaleEntryOnceAndRestampsItOnNotModified() {
+        PublicResponseCache cache = cache(Duration.ZERO);
+        CachedResponse stale = entry("article", false, "body");
+        cache.put("/api/content/article", stale, cache.generation());
+        assertFalse(cache.isFresh(stale, System.nanoTime()));
+
+        cache.revalidate("/api/content/article", stale);
+        cache.revalidate("/api/content/article", stale);
+        assertEquals(1, backendRequests.size());
+        assertEquals(List.of("\"v1\""), backendRequests.get(0).headers().getIfNoneMatch());
+        assertEquals("PUBLIC", backendRequests.get(0).headers().getFirst("X-User-Roles"));
+
+        backendResponse.tryEmitValue(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+
+        CachedResponse restamped = cache.get("/api/content/article");
+        assertTrue(restamped.getStoredAt() > stale.getStoredAt());
+        assertArrayEquals(stale.getBody(), restamped.getBody());
+        assertEquals("\"v1\"", restamped.getHeaders().getETag());
+    }
+
+    @Test
+    void neverConsidersANoCacheEntryFresh() {
+        PublicResponseCache cache = cache(Duration.ofSeconds(30));
+        HttpHeaders headers = headers(HttpHeaders.CACHE_CONTROL, "no-cache");
+        CachedResponse noCache = new CachedResponse("article", false, URI.create("http://localhost:7083"),
+                headers, new byte[0], System.nanoTime());
+
+        assertTrue(noCache.requiresRevalidation());
+        assertFalse(cache.isFresh(noCache, noCache.getStoredAt()));
+        assertTrue(cache.isFresh(entry("article", false, "a"), System.nanoTime()));
+    }
+
+    @Test
+    void refusesResponsesThatMustNotBeShared() {
+        assertTrue(PublicResponseCache.isCacheable(headers(HttpHeaders.CACHE_CONTROL, "public, max-age=30")));
+        assertTrue(PublicResponseCache.isCacheable(headers(HttpHeaders.VARY, "Origin")));
+        assertFalse(PublicResponseCache.isCacheable(headers(HttpHeaders.SET_COOKIE, "session=1")));
+        assertFalse(PublicResponseCache.isCacheable(headers(HttpHeaders.CACHE_CONTROL, "no-store")));
+        assertFalse(PublicResponseCache.isCacheable(headers(HttpHeaders.CACHE_CONTROL, "private")));
+        assertFalse(PublicResponseCache.isCacheable(headers(HttpHeaders.VARY, "Origin, Accept-Language")));
+        assertFalse(PublicResponseCache.isCacheable(headers(HttpHeaders.VARY, "*")));
+    }
+
+    private PublicResponseCache cache(Duration ttl) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    backendRequests.add(request);
+                    return backendResponse.asMono();
+                })
+                .build();
+        return new PublicResponseCache(webClient, true, DataSize.ofMegabytes(1), DataSize.ofKilobytes(1), ttl,
+                Duration.ofSeconds(30), new SimpleMeterRegistry());
+    }
+
+    private static CachedResponse entry(String apiId, boolean populated, String body) {
+        return new CachedResponse(apiId, populated, URI.create("http://localhost:7083/api/content/" + apiId),
+                headers(HttpHeaders.ETAG, "\"v1\""), body.getBytes(StandardCharsets.UTF_8), System.nanoTime());
+    }
+
+    private static HttpHeaders headers(String name, String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(name, value);
+        return headers;
+    }
+}
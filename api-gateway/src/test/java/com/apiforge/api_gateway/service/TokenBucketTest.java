@@ -0,0 +1,48 @@
+package com.apiforge.api_gateway.service;
+
+import com.apiforge.api_gateway.service.RateLimitStore.BucketPolicy;
+import com.apiforge.api_gateway.service.RateLimitStore.Decision;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private final BucketPolicy policy = new BucketPolicy(10, 5);
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        TokenBucket bucket = new TokenBucket(policy, 0);
+        assertTrue(bucket.tryConsume(4, policy, 0).allowed());
+        Decision last = bucket.tryConsume(6, policy, 0);
+        assertTrue(last.allowed());
+        assertEquals(0, last.remaining());
+
+        Decision rejected = bucket.tryConsume(1, policy, 0);
+        assertFalse(rejected.allowed());
+        assertEquals(Duration.ofMillis(200), rejected.retryAfter());
+    }
+
+    @Test
+    void refillsWithElapsedTimeUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(policy, 0);
+        bucket.tryConsume(10, policy, 0);
+
+        assertFalse(bucket.tryConsume(3, policy, SECOND / 2).allowed());
+        assertTrue(bucket.tryConsume(3, policy, SECOND).allowed());
+        assertEquals(9, bucket.tryConsume(1, policy, 60 * SECOND).remaining());
+    }
+
+    @Test
+    void chargesOversizedRequestsAsAFullBucket() {
+        TokenBucket bucket = new TokenBucket(policy, 0);
+        assertTrue(bucket.tryConsume(50, policy, 0).allowed());
+        assertFalse(bucket.tryConsume(50, policy, SECOND).allowed());
+        assertTrue(bucket.tryConsume(50, policy, 2 * SECOND).allowed());
+    }
+}
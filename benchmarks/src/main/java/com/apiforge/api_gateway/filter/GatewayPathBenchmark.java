@@ -0,0 +1,40 @@
+package com.apiforge.api_gateway.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Path parsing done by {@link AuthenticationFilter} on every public request. Lives in the filter's package
+ * because the methods are package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GatewayPathBenchmark {
+
+    @Param({"/api/content/article", "/api/content/article/12345", "/api/media/files/logo.png"})
+    public String path;
+
+    @Benchmark
+    public String resolveContentTypeApiId() {
+        return AuthenticationFilter.resolveContentTypeApiId(path);
+    }
+
+    @Benchmark
+    public String normalizeEndpoint() {
+        return AuthenticationFilter.normalizeEndpoint(path);
+    }
+}
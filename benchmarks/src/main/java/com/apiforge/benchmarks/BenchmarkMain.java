@@ -0,0 +1,22 @@
+package com.apiforge.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Accepts the usual JMH command line and, unless a result format
+ * is given, writes JSON results to {@code jmh-results.json} so runs can be diffed between releases.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] argv) throws Exception {
+        List<String> args = new ArrayList<>(List.of(argv));
+        if (!args.contains("-rf")) {
+            args.addAll(List.of("-rf", "json", "-rff", "jmh-results.json"));
+        }
+        org.openjdk.jmh.Main.main(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,87 @@
+package com.apiforge.benchmarks;
+
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.model.FieldSchema;
+import com.apiforge.content.model.FieldType;
+import com.apiforge.content.query.ContentQuery;
+import com.apiforge.content.query.FilterCompiler;
+import com.apiforge.content.query.FilterPredicate;
+import com.apiforge.content.query.SortSpec;
+import com.apiforge.content.repository.ContentSqlBuilder;
+import com.apiforge.content.repository.SqlStatement;
+import com.apiforge.content.repository.SqlTemplateCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL generation behind {@code DynamicContentRepository}: filter compilation, page queries, and insert text
+ * built fresh versus served from {@link SqlTemplateCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentSqlBenchmark {
+
+    private static final String TABLE = "ct_article";
+
+    private final ContentSqlBuilder sqlBuilder = new ContentSqlBuilder();
+    private final SqlTemplateCache templateCache = new SqlTemplateCache(2000);
+
+    private ContentTypeSchema schema;
+    private Map<String, Object> filter;
+    private ContentQuery pageQuery;
+    private List<String> columns;
+
+    @Setup
+    public void setUp() {
+        schema = new ContentTypeSchema("article", List.of(
+                new FieldSchema("title", FieldType.SHORT_TEXT, true, false, null, null),
+                new FieldSchema("body", FieldType.RICH_TEXT, false, false, null, null),
+                new FieldSchema("status", FieldType.SHORT_TEXT, true, false, null, null),
+                new FieldSchema("views", FieldType.NUMBER, false, false, null, null),
+                new FieldSchema("published", FieldType.BOOLEAN, false, false, null, null)));
+        filter = Map.of(
+                "status", "published",
+                "views", Map.of("gte", 10, "lt", 100),
+                "title", Map.of("startsWith", "Intro"));
+        pageQuery = new ContentQuery(List.of("title", "status"), FilterCompiler.compile(schema, filter),
+                SortSpec.DEFAULT, null, 20);
+        columns = SqlTemplateCache.canonical(List.of("title", "body", "status", "views", "published"));
+    }
+
+    @Benchmark
+    public FilterPredicate compileFilter() {
+        return FilterCompiler.compile(schema, filter);
+    }
+
+    @Benchmark
+    public SqlStatement selectPage() {
+        return sqlBuilder.selectPage(TABLE, pageQuery);
+    }
+
+    @Benchmark
+    public String insertUncached() {
+        return sqlBuilder.insert(TABLE, columns);
+    }
+
+    @Benchmark
+    public String insertCached() {
+        return templateCache.get(TABLE, SqlTemplateCache.Operation.INSERT, columns,
+                () -> sqlBuilder.insert(TABLE, columns));
+    }
+}
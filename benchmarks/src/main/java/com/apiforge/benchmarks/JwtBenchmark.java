@@ -0,0 +1,51 @@
+package com.apiforge.benchmarks;
+
+import com.apiforge.common.util.JwtClaims;
+import com.apiforge.common.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue (auth-service login) and verification (gateway cache miss).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "apiforge-headless-cms-secret-key-minimum-256-bits-required-for-hs256";
+    private static final String REFRESH_SECRET = "apiforge-headless-cms-refresh-secret-key-minimum-256-bits-required";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 86_400_000L, REFRESH_SECRET, 604_800_000L);
+        token = jwtUtil.generateToken("editor", 42L, List.of("EDITOR", "REGISTERED"));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("editor", 42L, List.of("EDITOR", "REGISTERED"));
+    }
+
+    @Benchmark
+    public JwtClaims parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+}
@@ -0,0 +1,85 @@
+package com.apiforge.benchmarks;
+
+import com.apiforge.permission.model.ApiPermission;
+import com.apiforge.permission.model.ContentPermission;
+import com.apiforge.permission.service.PermissionMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Role matching as answered by {@code PermissionService}: lookups against a compiled
+ * {@link PermissionMatrix} of 50 content types, and the cost of recompiling it after a change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionMatchingBenchmark {
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "DELETE"};
+    private static final String[] ACTIONS = {"CREATE", "READ", "UPDATE", "DELETE"};
+
+    private final List<String> editorRoles = List.of("REGISTERED", "EDITOR");
+    private final List<String> unknownRoles = List.of("GUEST", "TRIAL", "BANNED");
+
+    private List<ApiPermission> apiPermissions;
+    private List<ContentPermission> contentPermissions;
+    private PermissionMatrix matrix;
+
+    @Setup
+    public void setUp() {
+        apiPermissions = new ArrayList<>();
+        contentPermissions = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String apiId = "type" + i;
+            for (String method : METHODS) {
+                Set<String> roles = method.equals("GET") ? Set.of("PUBLIC", "REGISTERED", "EDITOR", "ADMIN")
+                        : Set.of("EDITOR", "ADMIN");
+                apiPermissions.add(ApiPermission.builder().contentTypeApiId(apiId)
+                        .endpoint("/api/content/" + apiId).method(method).allowedRoles(roles).build());
+                apiPermissions.add(ApiPermission.builder().contentTypeApiId(apiId)
+                        .endpoint("/api/content/" + apiId + "/{id}").method(method).allowedRoles(roles).build());
+            }
+            for (String action : ACTIONS) {
+                contentPermissions.add(ContentPermission.builder().contentTypeApiId(apiId).action(action)
+                        .allowedRoles(Set.of("EDITOR", "ADMIN")).build());
+            }
+        }
+        matrix = PermissionMatrix.compile(1, apiPermissions, contentPermissions);
+    }
+
+    @Benchmark
+    public boolean apiAllowed() {
+        return matrix.isApiAllowed("type25", "/api/content/type25/{id}", "PUT", editorRoles);
+    }
+
+    @Benchmark
+    public boolean apiDenied() {
+        return matrix.isApiAllowed("type25", "/api/content/type25/{id}", "PUT", unknownRoles);
+    }
+
+    @Benchmark
+    public boolean contentAllowed() {
+        return matrix.isContentAllowed("type25", "UPDATE", editorRoles);
+    }
+
+    @Benchmark
+    public PermissionMatrix compileMatrix() {
+        return PermissionMatrix.compile(2, apiPermissions, contentPermissions);
+    }
+}
@@ -0,0 +1,65 @@
+package com.apiforge.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Attaches {@link PoolMetricsTrackerFactory} to the service's Hikari pool. Pool sizing, timeouts and
+ * pgjdbc statement caching are plain properties, set for every service in {@code common-application.yml}
+ * from the {@code apiforge.datasource.pool.*} and {@code apiforge.datasource.statements.*} values.
+ * Setting a tracker makes Boot skip its own Hikari meter binding, so the Micrometer tracker is chained
+ * behind ours instead.
+ */
+@Configuration
+@ConditionalOnClass(name = "com.zaxxer.hikari.HikariDataSource")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DataSourcePoolConfig {
+
+    @Bean
+    public PoolMetricsTrackerFactory poolMetricsTrackerFactory(ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        return new PoolMetricsTrackerFactory(registry != null ? new MicrometerMetricsTrackerFactory(registry) : null);
+    }
+
+    @Bean
+    public static BeanPostProcessor hikariMetricsPostProcessor(
+            ObjectProvider<PoolMetricsTrackerFactory> factory) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // The pool starts lazily on the first getConnection(), so the tracker can still be set here.
+                HikariDataSource dataSource = unwrapHikari(bean);
+                if (dataSource != null && dataSource.getMetricsTrackerFactory() == null
+                        && dataSource.getMetricRegistry() == null) {
+                    dataSource.setMetricsTrackerFactory(factory.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /** The Hikari pool behind {@code bean}, looking through proxies such as the JDBC tracing wrapper. */
+    private static HikariDataSource unwrapHikari(Object bean) {
+        if (bean instanceof HikariDataSource dataSource) {
+            return dataSource;
+        }
+        if (bean instanceof DataSource dataSource) {
+            try {
+                return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+            } catch (SQLException ex) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.apiforge.common.datasource;
+
+import com.apiforge.common.dto.ApiResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/internal/datasource-pool")
+@ConditionalOnClass(name = "com.zaxxer.hikari.HikariDataSource")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DataSourcePoolController {
+
+    @Autowired
+    private PoolMetricsTrackerFactory poolMetricsTrackerFactory;
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> stats() {
+        return ResponseEntity.ok(ApiResponse.success(poolMetricsTrackerFactory.stats()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.apiforge.common.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hikari metrics tracker that keeps cumulative counters in memory: how long callers waited for a
+ * connection, how long they held it, and how often acquisition timed out. Together with the live pool
+ * state this shows whether a pool is too small (waits and pending threads grow) or too large (idle
+ * connections stay high). When a delegate is given (Hikari's Micrometer tracker), every event is
+ * forwarded to it as well, so the same pool shows up under {@code hikaricp.*} on the metrics endpoint.
+ */
+public class PoolMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    private final MetricsTrackerFactory delegate;
+
+    private volatile String poolName;
+    private volatile PoolStats poolStats;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder usages = new LongAdder();
+    private final LongAdder usageMillis = new LongAdder();
+    private final LongAccumulator maxUsageMillis = new LongAccumulator(Math::max, 0);
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder connectionsCreated = new LongAdder();
+
+    public PoolMetricsTrackerFactory() {
+        this(null);
+    }
+
+    public PoolMetricsTrackerFactory(MetricsTrackerFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        IMetricsTracker forward = delegate != null ? delegate.create(poolName, poolStats) : new IMetricsTracker() {
+        };
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquisitions.increment();
+                acquireNanos.add(elapsedAcquiredNanos);
+                maxAcquireNanos.accumulate(elapsedAcquiredNanos);
+                forward.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usages.increment();
+                usageMillis.add(elapsedBorrowedMillis);
+                maxUsageMillis.accumulate(elapsedBorrowedMillis);
+                forward.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+                forward.recordConnectionTimeout();
+            }
+
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                connectionsCreated.increment();
+                forward.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+
+            @Override
+            public void close() {
+                forward.close();
+            }
+        };
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pool", poolName);
+        PoolStats pool = poolStats;
+        if (pool != null) {
+            stats.put("active", pool.getActiveConnections());
+            stats.put("idle", pool.getIdleConnections());
+            stats.put("pending", pool.getPendingThreads());
+            stats.put("total", pool.getTotalConnections());
+            stats.put("max", pool.getMaxConnections());
+            stats.put("minIdle", pool.getMinConnections());
+        }
+        long count = acquisitions.sum();
+        stats.put("acquisitions", count);
+        stats.put("averageWaitMs", count == 0 ? 0.0 : acquireNanos.sum() / (double) count / 1_000_000.0);
+        stats.put("maxWaitMs", TimeUnit.NANOSECONDS.toMillis(maxAcquireNanos.get()));
+        long usageCount = usages.sum();
+        stats.put("averageUsageMs", usageCount == 0 ? 0.0 : usageMillis.sum() / (double) usageCount);
+        stats.put("maxUsageMs", maxUsageMillis.get());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("connectionsCreated", connectionsCreated.sum());
+        return stats;
+    }
+}
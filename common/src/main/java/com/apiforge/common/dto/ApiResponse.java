@@ -1,10 +1,16 @@
 package com.apiforge.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
 public class ApiResponse<T> {
     private boolean success;
     private String message;
     private T data;
     private String error;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Object> meta;
 
     public ApiResponse() {
     }
@@ -24,6 +30,12 @@ public class ApiResponse<T> {
         return new ApiResponse<>(true, message, data, null);
     }
 
+    public static <T> ApiResponse<T> successWithMeta(T data, Map<String, Object> meta) {
+        ApiResponse<T> response = new ApiResponse<>(true, null, data, null);
+        response.setMeta(meta);
+        return response;
+    }
+
     public static <T> ApiResponse<T> error(String error) {
         return new ApiResponse<>(false, null, null, error);
     }
@@ -59,4 +71,12 @@ public class ApiResponse<T> {
     public void setError(String error) {
         this.error = error;
     }
+
+    public Map<String, Object> getMeta() {
+        return meta;
+    }
+
+    public void setMeta(Map<String, Object> meta) {
+        this.meta = meta;
+    }
 }
@@ -31,4 +31,10 @@ public class CustomExceptions {
             super(message);
         }
     }
+
+    public static class ServiceUnavailableException extends RuntimeException {
+        public ServiceUnavailableException(String message) {
+            super(message);
+        }
+    }
 }
@@ -0,0 +1,19 @@
+package com.apiforge.common.util;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims of a token whose signature has already been verified. Immutable, so a parsed token can be shared
+ * across requests and threads.
+ */
+public record JwtClaims(String username, Long userId, List<String> roles, Instant expiresAt) {
+
+    public JwtClaims {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
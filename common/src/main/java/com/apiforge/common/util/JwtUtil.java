@@ -1,6 +1,7 @@
 package com.apiforge.common.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,29 +11,34 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret:apiforge-headless-cms-secret-key-minimum-256-bits-required-for-hs256}")
-    private String secret;
-
-    @Value("${jwt.expiration:86400000}") // 24 hours
-    private Long expiration;
-
-    @Value("${jwt.refresh-secret:apiforge-headless-cms-refresh-secret-key-minimum-256-bits-required}")
-    private String refreshSecret;
-
-    @Value("${jwt.refresh-expiration:604800000}") // 7 days
-    private Long refreshExpiration;
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-    }
-
-    private SecretKey getRefreshSigningKey() {
-        return Keys.hmacShaKeyFor(refreshSecret.getBytes(StandardCharsets.UTF_8));
+    private final Long expiration;
+    private final Long refreshExpiration;
+
+    // Keys and parsers are immutable and thread-safe, so they are derived once instead of per call.
+    private final SecretKey signingKey;
+    private final SecretKey refreshSigningKey;
+    private final JwtParser parser;
+    private final JwtParser refreshParser;
+
+    public JwtUtil(
+            @Value("${jwt.secret:apiforge-headless-cms-secret-key-minimum-256-bits-required-for-hs256}")
+            String secret,
+            @Value("${jwt.expiration:86400000}") // 24 hours
+            Long expiration,
+            @Value("${jwt.refresh-secret:apiforge-headless-cms-refresh-secret-key-minimum-256-bits-required}")
+            String refreshSecret,
+            @Value("${jwt.refresh-expiration:604800000}") // 7 days
+            Long refreshExpiration) {
+        this.expiration = expiration;
+        this.refreshExpiration = refreshExpiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.refreshSigningKey = Keys.hmacShaKeyFor(refreshSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.refreshParser = Jwts.parser().verifyWith(refreshSigningKey).build();
     }
 
     public String generateToken(String username, Long userId, List<String> roles) {
@@ -42,7 +48,7 @@ public class JwtUtil {
                 .claim("roles", roles)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -54,24 +60,33 @@ public class JwtUtil {
                 .claim("tokenType", "refresh")
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshExpiration))
-                .signWith(getRefreshSigningKey())
+                .signWith(refreshSigningKey)
                 .compact();
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public Claims extractRefreshClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getRefreshSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return refreshParser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Verifies the signature and expiry once and returns every claim the services use. Prefer this over
+     * calling the individual {@code extract*} methods, each of which verifies the token again.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    @SuppressWarnings("unchecked")
+    public JwtClaims parseToken(String token) {
+        Claims claims = extractAllClaims(token);
+        Date expiresAt = claims.getExpiration();
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                claims.get("roles", List.class),
+                expiresAt != null ? expiresAt.toInstant() : null);
     }
 
     public String extractUsername(String token) {
@@ -1,16 +1,36 @@
 package com.apiforge.content.controller;
 
+import com.apiforge.content.dto.BulkOperationDto;
+import com.apiforge.content.dto.BulkOperationResultDto;
+import com.apiforge.content.dto.BulkRequestDto;
+import com.apiforge.content.dto.ContentQueryRequestDto;
+import com.apiforge.content.model.ContentAction;
+import com.apiforge.content.query.ContentPage;
+import com.apiforge.content.query.ContentVersion;
+import com.apiforge.content.service.ContentAccessGuard;
+import com.apiforge.content.service.ContentBulkService;
+import com.apiforge.content.service.ContentExportService;
 import com.apiforge.content.service.ContentService;
 import com.apiforge.common.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/content/{apiId}")
@@ -19,10 +39,20 @@ public class ContentController {
     @Autowired
     private ContentService contentService;
 
+    @Autowired
+    private ContentExportService contentExportService;
+
+    @Autowired
+    private ContentBulkService contentBulkService;
+
+    @Autowired
+    private ContentAccessGuard contentAccessGuard;
+
     @PostMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> createContent(
             @PathVariable String apiId,
             @RequestBody Map<String, Object> contentPayload) {
+        contentAccessGuard.require(apiId, ContentAction.CREATE);
         Map<String, Object> created = contentService.createContent(apiId, contentPayload);
         return ResponseEntity.ok(ApiResponse.success("Content created successfully", created));
     }
@@ -30,7 +60,13 @@ public class ContentController {
     @GetMapping
     @Operation(
             summary = "List content entries by content type",
-            description = "Example uses seeded Author entries (apiId=author).",
+            description = "Keyset-paginated. `limit` caps the page size, `sort` takes a field name "
+                    + "(prefix with `-` for descending), `fields` is a comma-separated projection, `cursor` "
+                    + "is the `meta.nextCursor` of the previous page and `populate` (paths like `author_id.avatar` "
+                    + "or `*` with `populateDepth`) replaces relation and media ids with the referenced entries. "
+                    + "Responses without `populate` carry an `ETag` that changes with any write to the content "
+                    + "type; send it back in `If-None-Match` to get 304 when nothing changed. "
+                    + "Example uses seeded Author entries (apiId=author).",
             responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200",
                     description = "Seeded content for apiId=author",
@@ -58,22 +94,100 @@ public class ContentController {
                                                   "avatar": 3
                                                 }
                                               ],
-                                              "error": null
+                                              "error": null,
+                                              "meta": {
+                                                "limit": 100,
+                                                "sort": "id",
+                                                "hasMore": false,
+                                                "nextCursor": null
+                                              }
                                             }
                                             """
                             )
                     )
             )
     )
-    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAllContent(@PathVariable String apiId) {
-        List<Map<String, Object>> contents = contentService.getAllContent(apiId);
-        return ResponseEntity.ok(ApiResponse.success(contents));
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAllContent(
+            @PathVariable String apiId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String populate,
+            @RequestParam(required = false) Integer populateDepth,
+            WebRequest webRequest) {
+        contentAccessGuard.require(apiId, ContentAction.READ);
+        ContentVersion version = contentService.getCollectionVersion(apiId, populate);
+        if (version != null && webRequest.checkNotModified(version.getETag())) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), version).build();
+        }
+        ContentPage page = contentService.getContentPage(apiId, fields, sort, cursor, limit, populate, populateDepth);
+        return withValidators(ResponseEntity.ok(), version)
+                .body(ApiResponse.successWithMeta(page.getItems(), page.toMeta()));
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export every entry of a content type",
+            description = "Streams rows in id order as NDJSON (default) or a JSON array, without the ApiResponse "
+                    + "envelope. `fields` is an optional comma-separated projection."
+    )
+    public ResponseEntity<StreamingResponseBody> exportContent(
+            @PathVariable String apiId,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String fields) {
+        contentAccessGuard.require(apiId, ContentAction.READ);
+        ContentExportService.ContentExport export = contentExportService.prepare(apiId, format, fields);
+        StreamingResponseBody body = out -> contentExportService.write(export, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(export.getFormat().getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + export.getFileName() + "\"")
+                .body(body);
+    }
+
+    @PostMapping("/bulk")
+    @Operation(
+            summary = "Create, update and delete entries in one transaction",
+            description = "Each operation is `{\"op\": \"create|update|delete\", \"id\": ..., \"data\": {...}}`. "
+                    + "All operations are validated before any is applied; a validation error rejects the whole "
+                    + "request. Results are returned in request order; updates and deletes of missing ids report "
+                    + "`NOT_FOUND` instead of failing."
+    )
+    public ResponseEntity<ApiResponse<List<BulkOperationResultDto>>> bulk(
+            @PathVariable String apiId,
+            @RequestBody BulkRequestDto request) {
+        requireBulkPermissions(apiId, request);
+        List<BulkOperationResultDto> results = contentBulkService.execute(apiId, request);
+        Map<String, Object> counts = new LinkedHashMap<>();
+        for (BulkOperationResultDto result : results) {
+            counts.merge(result.getStatus().toLowerCase(Locale.ROOT), 1, (a, b) -> (Integer) a + (Integer) b);
+        }
+        ApiResponse<List<BulkOperationResultDto>> response = ApiResponse.successWithMeta(results, counts);
+        response.setMessage("Bulk operation completed");
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/query")
+    @Operation(
+            summary = "Filter, sort and paginate content entries",
+            description = "`filter` is a JSON object: `field: value` for equality, or `field: {op: value}` with "
+                    + "`eq, ne, gt, gte, lt, lte, in, contains, startsWith, isNull`; `and`/`or` take arrays of "
+                    + "nested filters. `sort`, `fields`, `limit`, `cursor`, `populate` and `populateDepth` behave "
+                    + "as on the list endpoint; a cursor must be sent with the same filter and sort it was issued for."
+    )
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> queryContent(
+            @PathVariable String apiId,
+            @RequestBody ContentQueryRequestDto request) {
+        contentAccessGuard.require(apiId, ContentAction.READ);
+        ContentPage page = contentService.queryContent(apiId, request);
+        return ResponseEntity.ok(ApiResponse.successWithMeta(page.getItems(), page.toMeta()));
     }
 
     @PostMapping("/search")
     public ResponseEntity<ApiResponse<List<Map<String, Object>>>> searchContent(
             @PathVariable String apiId,
             @RequestBody Map<String, Object> filters) {
+        contentAccessGuard.require(apiId, ContentAction.READ);
         List<Map<String, Object>> results = contentService.searchContent(apiId, filters);
         return ResponseEntity.ok(ApiResponse.success(results));
     }
@@ -81,9 +195,18 @@ public class ContentController {
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getContentById(
             @PathVariable String apiId,
-            @PathVariable Long id) {
-        Map<String, Object> content = contentService.getContentById(apiId, id);
-        return ResponseEntity.ok(ApiResponse.success(content));
+            @PathVariable Long id,
+            @RequestParam(required = false) String populate,
+            @RequestParam(required = false) Integer populateDepth,
+            WebRequest webRequest) {
+        contentAccessGuard.require(apiId, ContentAction.READ);
+        Map<String, Object> content = contentService.findContentById(apiId, id);
+        ContentVersion version = contentService.getContentVersion(apiId, content, populate);
+        if (version != null && webRequest.checkNotModified(version.getETag(), version.getLastModifiedMillis())) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), version).build();
+        }
+        contentService.populateContent(apiId, content, populate, populateDepth);
+        return withValidators(ResponseEntity.ok(), version).body(ApiResponse.success(content));
     }
 
     @PutMapping("/{id}")
@@ -91,6 +214,7 @@ public class ContentController {
             @PathVariable String apiId,
             @PathVariable Long id,
             @RequestBody Map<String, Object> contentPayload) {
+        contentAccessGuard.require(apiId, ContentAction.UPDATE);
         Map<String, Object> updated = contentService.updateContent(apiId, id, contentPayload);
         return ResponseEntity.ok(ApiResponse.success("Content updated successfully", updated));
     }
@@ -99,7 +223,44 @@ public class ContentController {
     public ResponseEntity<ApiResponse<Void>> deleteContent(
             @PathVariable String apiId,
             @PathVariable Long id) {
+        contentAccessGuard.require(apiId, ContentAction.DELETE);
         contentService.deleteContent(apiId, id);
         return ResponseEntity.ok(ApiResponse.success("Content deleted successfully", null));
     }
+
+    /**
+     * {@code no-cache} lets browsers and CDNs store the response but makes them revalidate it on every use,
+     * which is a 304 without a body as long as the content is unchanged.
+     */
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, ContentVersion version) {
+        if (version == null) {
+            return builder;
+        }
+        builder.eTag(version.getETag()).cacheControl(CacheControl.noCache());
+        if (version.getLastModified() != null) {
+            builder.lastModified(version.getLastModified());
+        }
+        return builder;
+    }
+
+    private void requireBulkPermissions(String apiId, BulkRequestDto request) {
+        if (request.getOperations() == null) {
+            return;
+        }
+        Set<ContentAction> actions = EnumSet.noneOf(ContentAction.class);
+        for (BulkOperationDto operation : request.getOperations()) {
+            if (operation == null || operation.getOp() == null) {
+                continue;
+            }
+            switch (operation.getOp().trim().toLowerCase(Locale.ROOT)) {
+                case "create" -> actions.add(ContentAction.CREATE);
+                case "update" -> actions.add(ContentAction.UPDATE);
+                case "delete" -> actions.add(ContentAction.DELETE);
+                default -> {
+                    // Rejected by ContentBulkService validation.
+                }
+            }
+        }
+        actions.forEach(action -> contentAccessGuard.require(apiId, action));
+    }
 }
@@ -0,0 +1,38 @@
+package com.apiforge.content.controller;
+
+import com.apiforge.common.dto.ApiResponse;
+import com.apiforge.content.service.ContentTypeSchemaCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Service-to-service endpoints. The gateway only routes {@code /api/**}, so these are reachable
+ * from content-type-service on the internal network but not from public clients.
+ */
+@RestController
+@RequestMapping("/internal/schema-cache")
+public class SchemaCacheController {
+
+    @Autowired
+    private ContentTypeSchemaCache contentTypeSchemaCache;
+
+    @DeleteMapping("/{apiId}")
+    public ResponseEntity<ApiResponse<Void>> invalidate(@PathVariable String apiId) {
+        contentTypeSchemaCache.invalidate(apiId);
+        return ResponseEntity.ok(ApiResponse.success("Schema cache entry invalidated", null));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Void>> invalidateAll() {
+        contentTypeSchemaCache.invalidateAll();
+        return ResponseEntity.ok(ApiResponse.success("Schema cache cleared", null));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> stats() {
+        return ResponseEntity.ok(ApiResponse.success(contentTypeSchemaCache.stats()));
+    }
+}
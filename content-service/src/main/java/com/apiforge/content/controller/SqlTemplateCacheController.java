@@ -0,0 +1,24 @@
+package com.apiforge.content.controller;
+
+import com.apiforge.common.dto.ApiResponse;
+import com.apiforge.content.repository.SqlTemplateCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/internal/sql-template-cache")
+public class SqlTemplateCacheController {
+
+    @Autowired
+    private SqlTemplateCache sqlTemplateCache;
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> stats() {
+        return ResponseEntity.ok(ApiResponse.success(sqlTemplateCache.stats()));
+    }
+}
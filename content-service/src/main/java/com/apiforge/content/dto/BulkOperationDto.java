@@ -0,0 +1,18 @@
+package com.apiforge.content.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationDto {
+    private String op; // create, update, delete
+    private Long id;
+    private Map<String, Object> data;
+}
@@ -0,0 +1,17 @@
+package com.apiforge.content.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResultDto {
+    private int index;
+    private String op;
+    private Long id;
+    private String status; // CREATED, UPDATED, DELETED, NOT_FOUND
+}
@@ -0,0 +1,23 @@
+package com.apiforge.content.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentQueryRequestDto {
+    private Map<String, Object> filter;
+    private String sort; // field or -field
+    private List<String> fields;
+    private String cursor;
+    private Integer limit;
+    private String populate; // comma-separated paths or *
+    private Integer populateDepth;
+}
@@ -0,0 +1,11 @@
+package com.apiforge.content.model;
+
+/**
+ * Mirror of the actions permission-service's {@code ContentPermission} rules are defined for.
+ */
+public enum ContentAction {
+    CREATE,
+    READ,
+    UPDATE,
+    DELETE
+}
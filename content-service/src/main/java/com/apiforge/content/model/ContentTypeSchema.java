@@ -0,0 +1,73 @@
+package com.apiforge.content.model;
+
+import com.apiforge.common.exception.CustomExceptions;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of a content type definition as served by content-type-service.
+ * Instances are cached by {@code ContentTypeSchemaCache}, so they must never be mutated.
+ */
+public class ContentTypeSchema {
+    public static final FieldSchema ID = FieldSchema.system("id", SqlType.BIGINT);
+    public static final FieldSchema CREATED_AT = FieldSchema.system("created_at", SqlType.TIMESTAMP);
+    public static final FieldSchema UPDATED_AT = FieldSchema.system("updated_at", SqlType.TIMESTAMP);
+
+    private static final Map<String, FieldSchema> SYSTEM_COLUMNS = Map.of(
+            ID.getFieldName(), ID,
+            CREATED_AT.getFieldName(), CREATED_AT,
+            UPDATED_AT.getFieldName(), UPDATED_AT
+    );
+
+    private final String apiId;
+    private final Map<String, FieldSchema> fields;
+    private final String fingerprint;
+
+    public ContentTypeSchema(String apiId, List<FieldSchema> fields) {
+        this.apiId = apiId;
+        Map<String, FieldSchema> byName = new LinkedHashMap<>();
+        StringBuilder columns = new StringBuilder();
+        for (FieldSchema field : fields) {
+            byName.put(field.getFieldName(), field);
+            columns.append(field.getFieldName()).append(':').append(field.getSqlType()).append(';');
+        }
+        this.fields = Collections.unmodifiableMap(byName);
+        this.fingerprint = Integer.toHexString(columns.toString().hashCode());
+    }
+
+    public String getApiId() { return apiId; }
+
+    public String getTableName() { return "ct_" + apiId; }
+
+    /**
+     * Changes whenever a column is added, removed or retyped, i.e. whenever the JSON shape of an entry does.
+     */
+    public String getFingerprint() { return fingerprint; }
+
+    public Collection<FieldSchema> getFields() { return fields.values(); }
+
+    public FieldSchema getField(String fieldName) { return fields.get(fieldName); }
+
+    public boolean hasField(String fieldName) { return fields.containsKey(fieldName); }
+
+    /**
+     * Resolves a column name, including system columns, or returns null when the table has no such column.
+     */
+    public FieldSchema getColumn(String columnName) {
+        FieldSchema system = SYSTEM_COLUMNS.get(columnName);
+        return system != null ? system : fields.get(columnName);
+    }
+
+    public FieldSchema requireColumn(String columnName) {
+        FieldSchema column = getColumn(columnName);
+        if (column == null) {
+            throw new CustomExceptions.BadRequestException(
+                    "Unknown field '" + columnName + "' for content type '" + apiId + "'");
+        }
+        return column;
+    }
+}
@@ -0,0 +1,51 @@
+package com.apiforge.content.model;
+
+public class FieldSchema {
+    private final String fieldName;
+    private final FieldType type;
+    private final SqlType sqlType;
+    private final boolean required;
+    private final boolean unique;
+    private final String targetContentType;
+    private final String relationType;
+
+    public FieldSchema(String fieldName, FieldType type, boolean required, boolean unique,
+                       String targetContentType, String relationType) {
+        this(fieldName, type, SqlType.of(type), required, unique, targetContentType, relationType);
+    }
+
+    private FieldSchema(String fieldName, FieldType type, SqlType sqlType, boolean required, boolean unique,
+                        String targetContentType, String relationType) {
+        this.fieldName = fieldName;
+        this.type = type;
+        this.sqlType = sqlType;
+        this.required = required;
+        this.unique = unique;
+        this.targetContentType = targetContentType;
+        this.relationType = relationType;
+    }
+
+    /**
+     * Columns every {@code ct_*} table carries ({@code id}, {@code created_at}, {@code updated_at}).
+     * They have no {@link FieldType} because they are not part of the content type definition.
+     */
+    static FieldSchema system(String columnName, SqlType sqlType) {
+        return new FieldSchema(columnName, null, sqlType, false, "id".equals(columnName), null, null);
+    }
+
+    public String getFieldName() { return fieldName; }
+    public FieldType getType() { return type; }
+    public SqlType getSqlType() { return sqlType; }
+    public boolean isRequired() { return required; }
+    public boolean isUnique() { return unique; }
+    public String getTargetContentType() { return targetContentType; }
+    public String getRelationType() { return relationType; }
+
+    public boolean isSystem() { return type == null; }
+
+    /**
+     * Whether the column can hold SQL NULL. System columns are treated as non-null: {@code id} is the
+     * primary key and the timestamps are always defaulted by the table definition.
+     */
+    public boolean isNullable() { return !isSystem() && !required; }
+}
@@ -0,0 +1,16 @@
+package com.apiforge.content.model;
+
+/**
+ * Mirror of the content-type-service {@code FieldType} enum. Kept local so content-service
+ * can reason about column types without a compile-time dependency on the schema service.
+ */
+public enum FieldType {
+    SHORT_TEXT,
+    LONG_TEXT,
+    RICH_TEXT,
+    NUMBER,
+    BOOLEAN,
+    DATETIME,
+    MEDIA,
+    RELATION
+}
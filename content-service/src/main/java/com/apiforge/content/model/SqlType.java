@@ -0,0 +1,23 @@
+package com.apiforge.content.model;
+
+/**
+ * Physical column type of a {@code ct_*} column. Mirrors the mapping applied by
+ * content-type-service's {@code DynamicTableService} when the table is created.
+ */
+public enum SqlType {
+    BIGINT,
+    NUMERIC,
+    TEXT,
+    BOOLEAN,
+    TIMESTAMP;
+
+    public static SqlType of(FieldType fieldType) {
+        return switch (fieldType) {
+            case SHORT_TEXT, LONG_TEXT, RICH_TEXT -> TEXT;
+            case NUMBER -> NUMERIC;
+            case BOOLEAN -> BOOLEAN;
+            case DATETIME -> TIMESTAMP;
+            case MEDIA, RELATION -> BIGINT;
+        };
+    }
+}
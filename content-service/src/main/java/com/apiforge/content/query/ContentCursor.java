@@ -0,0 +1,60 @@
+package com.apiforge.content.query;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque keyset position: the sort key and {@code id} of the last row of a page. Encoded as URL-safe base64
+ * JSON so clients treat it as an opaque token.
+ */
+public class ContentCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Object sortValue;
+    private final long id;
+
+    public ContentCursor(Object sortValue, long id) {
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    /**
+     * @return the sort key already converted to the JDBC type of the sort column
+     */
+    public Object getSortValue() { return sortValue; }
+
+    public long getId() { return id; }
+
+    public static String encode(SortSpec sort, Map<String, Object> lastRow) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("s", sort.toParam());
+        payload.put("v", FieldValueCoercer.toPortable(lastRow.get(sort.getColumnName())));
+        payload.put("id", ((Number) lastRow.get("id")).longValue());
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(payload));
+        } catch (Exception ex) {
+            throw new IllegalStateException("Could not encode cursor", ex);
+        }
+    }
+
+    public static ContentCursor decode(String token, SortSpec sort) {
+        Map<String, Object> payload;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token.getBytes(StandardCharsets.US_ASCII));
+            payload = MAPPER.readValue(json, new TypeReference<>() {});
+        } catch (Exception ex) {
+            throw new CustomExceptions.BadRequestException("Malformed cursor");
+        }
+        if (!sort.toParam().equals(payload.get("s")) || !(payload.get("id") instanceof Number id)) {
+            throw new CustomExceptions.BadRequestException("Cursor does not match sort '" + sort.toParam() + "'");
+        }
+        return new ContentCursor(FieldValueCoercer.coerce(sort.getColumn(), payload.get("v")), id.longValue());
+    }
+}
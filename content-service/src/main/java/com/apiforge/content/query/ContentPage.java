@@ -0,0 +1,34 @@
+package com.apiforge.content.query;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ContentPage {
+
+    private final List<Map<String, Object>> items;
+    private final String nextCursor;
+    private final int limit;
+    private final String sort;
+
+    public ContentPage(List<Map<String, Object>> items, String nextCursor, int limit, String sort) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+        this.sort = sort;
+    }
+
+    public List<Map<String, Object>> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public int getLimit() { return limit; }
+    public String getSort() { return sort; }
+
+    public Map<String, Object> toMeta() {
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("limit", limit);
+        meta.put("sort", sort);
+        meta.put("hasMore", nextCursor != null);
+        meta.put("nextCursor", nextCursor);
+        return meta;
+    }
+}
@@ -0,0 +1,41 @@
+package com.apiforge.content.query;
+
+import java.util.List;
+
+/**
+ * A validated read against a {@code ct_*} table. Every column referenced here has already been checked
+ * against the content type schema, so SQL builders may embed the names directly.
+ */
+public class ContentQuery {
+
+    private final List<String> fields;
+    private final FilterPredicate filter;
+    private final SortSpec sort;
+    private final ContentCursor cursor;
+    private final int limit;
+
+    public ContentQuery(List<String> fields, SortSpec sort, ContentCursor cursor, int limit) {
+        this(fields, null, sort, cursor, limit);
+    }
+
+    public ContentQuery(List<String> fields, FilterPredicate filter, SortSpec sort, ContentCursor cursor, int limit) {
+        this.fields = fields;
+        this.filter = filter;
+        this.sort = sort;
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    /**
+     * @return projected columns, or null to select every column
+     */
+    public List<String> getFields() { return fields; }
+
+    /**
+     * @return the compiled filter, or null when every row matches
+     */
+    public FilterPredicate getFilter() { return filter; }
+    public SortSpec getSort() { return sort; }
+    public ContentCursor getCursor() { return cursor; }
+    public int getLimit() { return limit; }
+}
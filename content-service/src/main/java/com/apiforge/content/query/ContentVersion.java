@@ -0,0 +1,62 @@
+package com.apiforge.content.query;
+
+import com.apiforge.content.model.ContentTypeSchema;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Validators for conditional GETs, derived from the stored rows instead of the response body, so a request
+ * can be answered with 304 before rows are populated and serialized. ETags are weak: they identify the
+ * stored data and schema, not the bytes, which also depend on compression.
+ */
+public class ContentVersion {
+
+    private final String eTag;
+    private final Instant lastModified;
+
+    private ContentVersion(String eTag, Instant lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    public static ContentVersion ofEntry(ContentTypeSchema schema, Map<String, Object> row) {
+        Instant updatedAt = toInstant(row.get(ContentTypeSchema.UPDATED_AT.getFieldName()));
+        String tag = schema.getFingerprint() + "-" + row.get(ContentTypeSchema.ID.getFieldName()) + "-" + micros(updatedAt);
+        return new ContentVersion("W/\"" + tag + "\"", updatedAt);
+    }
+
+    /**
+     * From the row count and the digest of row versions probed by the repository. No {@code Last-Modified}
+     * for collections: no timestamp moves on every delete, or in commit order.
+     */
+    public static ContentVersion ofCollection(ContentTypeSchema schema, Object rowDigest, long rowCount) {
+        BigInteger digest = rowDigest instanceof BigDecimal decimal ? decimal.toBigInteger()
+                : BigInteger.valueOf(rowDigest instanceof Number number ? number.longValue() : 0);
+        String tag = schema.getFingerprint() + "-c" + rowCount + "-" + digest.toString(36);
+        return new ContentVersion("W/\"" + tag + "\"", null);
+    }
+
+    public String getETag() { return eTag; }
+
+    /**
+     * Null when there is none.
+     */
+    public Instant getLastModified() { return lastModified; }
+
+    public long getLastModifiedMillis() { return lastModified != null ? lastModified.toEpochMilli() : -1; }
+
+    private static Instant toInstant(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        }
+        return value instanceof Instant instant ? instant : null;
+    }
+
+    private static long micros(Instant instant) {
+        return instant == null ? 0 : instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+}
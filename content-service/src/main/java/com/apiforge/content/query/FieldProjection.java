@@ -0,0 +1,32 @@
+package com.apiforge.content.query;
+
+import com.apiforge.content.model.ContentTypeSchema;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class FieldProjection {
+
+    private FieldProjection() {
+    }
+
+    /**
+     * Parses a comma-separated {@code fields=} parameter against the schema.
+     *
+     * @return the validated column names in request order, or null when every column is requested
+     */
+    public static List<String> parse(ContentTypeSchema schema, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> columns = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!name.isEmpty()) {
+                columns.add(schema.requireColumn(name).getFieldName());
+            }
+        }
+        return columns.isEmpty() ? null : List.copyOf(columns);
+    }
+}
@@ -0,0 +1,116 @@
+package com.apiforge.content.query;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.model.FieldSchema;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+/**
+ * Converts loosely typed request values (JSON scalars, query strings, cursor payloads) into the JDBC type of
+ * the target column. Binding the column's own type keeps PostgreSQL from casting the column side of a
+ * comparison, which would otherwise prevent index use.
+ */
+public final class FieldValueCoercer {
+
+    private FieldValueCoercer() {
+    }
+
+    public static Object coerce(FieldSchema column, Object raw) {
+        if (raw == null) {
+            return null;
+        }
+        try {
+            return switch (column.getSqlType()) {
+                case BIGINT -> toLong(raw);
+                case NUMERIC -> toBigDecimal(raw);
+                case BOOLEAN -> toBoolean(raw);
+                case TIMESTAMP -> toTimestamp(raw);
+                case TEXT -> toText(raw);
+            };
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException ex) {
+            throw invalid(column, raw);
+        }
+    }
+
+    /**
+     * Renders a value read from JDBC into a form that {@link #coerce} accepts back, for embedding in cursors.
+     */
+    public static Object toPortable(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value;
+    }
+
+    private static Long toLong(Object raw) {
+        if (raw instanceof Number number) {
+            return new BigDecimal(number.toString()).longValueExact();
+        }
+        return Long.valueOf(raw.toString().trim());
+    }
+
+    private static BigDecimal toBigDecimal(Object raw) {
+        if (raw instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (raw instanceof Number || raw instanceof String) {
+            return new BigDecimal(raw.toString().trim());
+        }
+        throw new IllegalArgumentException();
+    }
+
+    private static Boolean toBoolean(Object raw) {
+        if (raw instanceof Boolean bool) {
+            return bool;
+        }
+        String text = raw.toString().trim();
+        if ("true".equalsIgnoreCase(text)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(text)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException();
+    }
+
+    private static Timestamp toTimestamp(Object raw) {
+        if (raw instanceof Timestamp timestamp) {
+            return timestamp;
+        }
+        if (raw instanceof LocalDateTime dateTime) {
+            return Timestamp.valueOf(dateTime);
+        }
+        String text = raw.toString().trim();
+        if (text.length() == 10) {
+            return Timestamp.valueOf(LocalDate.parse(text).atStartOfDay());
+        }
+        if (text.endsWith("Z") || text.matches(".*[+-]\\d{2}:\\d{2}$")) {
+            // Columns are TIMESTAMP WITHOUT TIME ZONE written with the server clock, so shift into its zone.
+            return Timestamp.valueOf(OffsetDateTime.parse(text)
+                    .atZoneSameInstant(ZoneId.systemDefault())
+                    .toLocalDateTime());
+        }
+        return Timestamp.valueOf(LocalDateTime.parse(text));
+    }
+
+    private static String toText(Object raw) {
+        if (raw instanceof String || raw instanceof Number || raw instanceof Boolean) {
+            return raw.toString();
+        }
+        throw new IllegalArgumentException();
+    }
+
+    private static CustomExceptions.BadRequestException invalid(FieldSchema column, Object raw) {
+        return new CustomExceptions.BadRequestException(
+                "Invalid value '" + raw + "' for field '" + column.getFieldName() + "' of type " + column.getSqlType());
+    }
+}
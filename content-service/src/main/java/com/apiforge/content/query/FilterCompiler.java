@@ -0,0 +1,203 @@
+package com.apiforge.content.query;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.model.FieldSchema;
+import com.apiforge.content.model.FieldType;
+import com.apiforge.content.model.SqlType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiles the JSON filter DSL into a parameterized {@code WHERE} fragment.
+ *
+ * <pre>
+ * { "status": "published",                        equality
+ *   "views": { "gte": 10, "lt": 100 },            operators on one field are ANDed
+ *   "title": { "startsWith": "Intro" },
+ *   "or": [ { "author": 3 }, { "editor": { "isNull": true } } ] }
+ * </pre>
+ *
+ * Operators: {@code eq, ne, gt, gte, lt, lte, in, contains, startsWith, isNull}; {@code and}/{@code or} take a
+ * list of nested filters. Every value is coerced to the column's JDBC type and columns are never wrapped in
+ * functions or casts, so range and equality predicates can use a {@code BTREE} index and {@code startsWith}/
+ * {@code contains} a {@code TRIGRAM} ({@code gin_trgm_ops}) index on the field. Keys are compiled in sorted
+ * order, so equivalent filters produce identical SQL text.
+ */
+public final class FilterCompiler {
+
+    static final int MAX_DEPTH = 8;
+    static final int MAX_IN_VALUES = 1000;
+
+    private FilterCompiler() {
+    }
+
+    /**
+     * @return the compiled predicate, or null when the filter is empty
+     */
+    public static FilterPredicate compile(ContentTypeSchema schema, Map<String, Object> filter) {
+        if (filter == null || filter.isEmpty()) {
+            return null;
+        }
+        List<Object> params = new ArrayList<>();
+        String sql = new Compilation(schema, params).group(filter, 0);
+        return new FilterPredicate(sql, params);
+    }
+
+    private static final class Compilation {
+        private final ContentTypeSchema schema;
+        private final List<Object> params;
+
+        Compilation(ContentTypeSchema schema, List<Object> params) {
+            this.schema = schema;
+            this.params = params;
+        }
+
+        /**
+         * An object: every entry must hold, so the entries are ANDed.
+         */
+        String group(Map<?, ?> filter, int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new CustomExceptions.BadRequestException("Filter is nested deeper than " + MAX_DEPTH + " levels");
+            }
+            if (filter.isEmpty()) {
+                throw new CustomExceptions.BadRequestException("Filter objects must not be empty");
+            }
+            List<String> terms = new ArrayList<>();
+            for (Map.Entry<String, Object> entry : sorted(filter).entrySet()) {
+                String key = entry.getKey();
+                if ("and".equals(key) || "or".equals(key)) {
+                    terms.add(junction(key, entry.getValue(), depth));
+                } else {
+                    terms.add(field(schema.requireColumn(key), entry.getValue()));
+                }
+            }
+            return joinTerms(terms, " AND ");
+        }
+
+        private String junction(String key, Object value, int depth) {
+            if (!(value instanceof List<?> list) || list.isEmpty()) {
+                throw new CustomExceptions.BadRequestException("'" + key + "' expects a non-empty array of filters");
+            }
+            List<String> terms = new ArrayList<>(list.size());
+            for (Object item : list) {
+                if (!(item instanceof Map<?, ?> nested)) {
+                    throw new CustomExceptions.BadRequestException("'" + key + "' expects a non-empty array of filters");
+                }
+                terms.add(group(nested, depth + 1));
+            }
+            return joinTerms(terms, "or".equals(key) ? " OR " : " AND ");
+        }
+
+        private String field(FieldSchema column, Object condition) {
+            if (!(condition instanceof Map<?, ?> operators)) {
+                return condition == null ? column.getFieldName() + " IS NULL" : compare(column, "eq", condition);
+            }
+            if (operators.isEmpty()) {
+                throw new CustomExceptions.BadRequestException(
+                        "No operator given for field '" + column.getFieldName() + "'");
+            }
+            List<String> terms = new ArrayList<>();
+            for (Map.Entry<String, Object> entry : sorted(operators).entrySet()) {
+                terms.add(compare(column, entry.getKey(), entry.getValue()));
+            }
+            return joinTerms(terms, " AND ");
+        }
+
+        private String compare(FieldSchema column, String operator, Object value) {
+            String name = column.getFieldName();
+            return switch (operator) {
+                case "eq" -> value == null ? name + " IS NULL" : bind(name + " = ?", column, value);
+                case "ne" -> value == null
+                        ? name + " IS NOT NULL"
+                        // Plain <> would silently drop rows where the column is NULL.
+                        : bind(name + " IS DISTINCT FROM ?", column, value);
+                case "gt" -> bind(name + " > ?", ordered(column, operator), value);
+                case "gte" -> bind(name + " >= ?", ordered(column, operator), value);
+                case "lt" -> bind(name + " < ?", ordered(column, operator), value);
+                case "lte" -> bind(name + " <= ?", ordered(column, operator), value);
+                case "in" -> in(column, value);
+                case "contains" -> like(column, operator, value, true);
+                case "startsWith" -> like(column, operator, value, false);
+                case "isNull" -> {
+                    if (!(value instanceof Boolean isNull)) {
+                        throw new CustomExceptions.BadRequestException("'isNull' expects true or false");
+                    }
+                    yield name + (isNull ? " IS NULL" : " IS NOT NULL");
+                }
+                default -> throw new CustomExceptions.BadRequestException(
+                        "Unsupported filter operator '" + operator + "' on field '" + name + "'");
+            };
+        }
+
+        private String bind(String sql, FieldSchema column, Object value) {
+            if (value == null || value instanceof Map || value instanceof Collection) {
+                throw new CustomExceptions.BadRequestException(
+                        "Field '" + column.getFieldName() + "' expects a single value");
+            }
+            params.add(FieldValueCoercer.coerce(column, value));
+            return sql;
+        }
+
+        private String in(FieldSchema column, Object value) {
+            if (!(value instanceof List<?> values) || values.isEmpty()) {
+                throw new CustomExceptions.BadRequestException("'in' expects a non-empty array");
+            }
+            if (values.size() > MAX_IN_VALUES) {
+                throw new CustomExceptions.BadRequestException("'in' accepts at most " + MAX_IN_VALUES + " values");
+            }
+            List<String> placeholders = new ArrayList<>(values.size());
+            for (Object item : values) {
+                bind("?", column, item);
+                placeholders.add("?");
+            }
+            return column.getFieldName() + " IN (" + String.join(", ", placeholders) + ")";
+        }
+
+        private String like(FieldSchema column, String operator, Object value, boolean anywhere) {
+            if (column.getSqlType() != SqlType.TEXT) {
+                throw new CustomExceptions.BadRequestException(
+                        "'" + operator + "' is only supported on text fields, not '" + column.getFieldName() + "'");
+            }
+            if (!(value instanceof String text) || text.isEmpty()) {
+                throw new CustomExceptions.BadRequestException("'" + operator + "' expects a non-empty string");
+            }
+            String pattern = escapeLike(text) + "%";
+            params.add(anywhere ? "%" + pattern : pattern);
+            return column.getFieldName() + " LIKE ?";
+        }
+
+        private FieldSchema ordered(FieldSchema column, String operator) {
+            if (column.getSqlType() == SqlType.BOOLEAN
+                    || column.getType() == FieldType.LONG_TEXT || column.getType() == FieldType.RICH_TEXT) {
+                throw new CustomExceptions.BadRequestException(
+                        "'" + operator + "' is not supported on field '" + column.getFieldName() + "'");
+            }
+            return column;
+        }
+    }
+
+    /**
+     * Escapes LIKE wildcards using PostgreSQL's default escape character.
+     */
+    static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static Map<String, Object> sorted(Map<?, ?> map) {
+        Map<String, Object> sorted = new TreeMap<>();
+        map.forEach((key, value) -> sorted.put(String.valueOf(key), value));
+        return sorted;
+    }
+
+    private static String joinTerms(List<String> terms, String separator) {
+        if (terms.size() == 1) {
+            return terms.get(0);
+        }
+        return "(" + String.join(separator, terms) + ")";
+    }
+}
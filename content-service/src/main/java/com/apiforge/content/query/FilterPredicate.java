@@ -0,0 +1,22 @@
+package com.apiforge.content.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A compiled {@code WHERE} fragment with its positional parameters, in the order they appear in the text.
+ */
+public class FilterPredicate {
+
+    private final String sql;
+    private final List<Object> params;
+
+    public FilterPredicate(String sql, List<Object> params) {
+        this.sql = sql;
+        this.params = Collections.unmodifiableList(new ArrayList<>(params));
+    }
+
+    public String getSql() { return sql; }
+    public List<Object> getParams() { return params; }
+}
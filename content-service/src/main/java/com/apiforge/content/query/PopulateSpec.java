@@ -0,0 +1,137 @@
+package com.apiforge.content.query;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.model.FieldSchema;
+import com.apiforge.content.model.FieldType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Which {@code RELATION}/{@code MEDIA} fields to replace with the referenced entries. Parsed from
+ * {@code populate=author_id,category_id.parent,hero_image} (dotted paths populate nested levels) or
+ * {@code populate=*}, which selects every relation and media field down to {@code populateDepth} levels.
+ */
+public final class PopulateSpec {
+
+    public static final PopulateSpec NONE = new PopulateSpec(0, Map.of());
+
+    private final int wildcardDepth;
+    private final Map<String, PopulateSpec> paths;
+
+    private PopulateSpec(int wildcardDepth, Map<String, PopulateSpec> paths) {
+        this.wildcardDepth = wildcardDepth;
+        this.paths = paths;
+    }
+
+    public static PopulateSpec parse(String raw, Integer depth, int maxDepth) {
+        if (raw == null || raw.isBlank()) {
+            return NONE;
+        }
+        int wildcardDepth = depth != null ? depth : 1;
+        if (wildcardDepth < 1 || wildcardDepth > maxDepth) {
+            throw new CustomExceptions.BadRequestException("populateDepth must be between 1 and " + maxDepth);
+        }
+
+        Builder root = new Builder();
+        for (String token : raw.split(",")) {
+            String path = token.trim();
+            if (path.isEmpty()) {
+                continue;
+            }
+            if ("*".equals(path)) {
+                root.wildcardDepth = wildcardDepth;
+                continue;
+            }
+            String[] segments = path.split("\\.");
+            if (segments.length > maxDepth) {
+                throw new CustomExceptions.BadRequestException(
+                        "populate path '" + path + "' is deeper than " + maxDepth + " levels");
+            }
+            Builder node = root;
+            for (String segment : segments) {
+                if (segment.isBlank()) {
+                    throw new CustomExceptions.BadRequestException("Invalid populate path '" + path + "'");
+                }
+                node = node.paths.computeIfAbsent(segment.trim(), key -> new Builder());
+            }
+        }
+        return root.build();
+    }
+
+    public boolean isEmpty() {
+        return wildcardDepth == 0 && paths.isEmpty();
+    }
+
+    /**
+     * The fields of {@code schema} to populate at this level, validated against their types.
+     */
+    public List<FieldSchema> select(ContentTypeSchema schema) {
+        Map<String, FieldSchema> selected = new LinkedHashMap<>();
+        if (wildcardDepth > 0) {
+            for (FieldSchema field : schema.getFields()) {
+                if (isPopulatable(field)) {
+                    selected.put(field.getFieldName(), field);
+                }
+            }
+        }
+        paths.forEach((name, child) -> {
+            FieldSchema field = schema.requireColumn(name);
+            if (!isPopulatable(field)) {
+                throw new CustomExceptions.BadRequestException("Field '" + name + "' cannot be populated");
+            }
+            if (field.getType() == FieldType.MEDIA && !child.isEmpty()) {
+                throw new CustomExceptions.BadRequestException("Media field '" + name + "' has no nested fields");
+            }
+            selected.put(name, field);
+        });
+        return new ArrayList<>(selected.values());
+    }
+
+    /**
+     * What to populate inside the entries referenced by {@code fieldName}.
+     */
+    public PopulateSpec child(String fieldName) {
+        PopulateSpec explicit = paths.getOrDefault(fieldName, NONE);
+        int childWildcard = Math.max(explicit.wildcardDepth, wildcardDepth - 1);
+        if (childWildcard == explicit.wildcardDepth) {
+            return explicit;
+        }
+        return new PopulateSpec(childWildcard, explicit.paths);
+    }
+
+    /**
+     * Union of two specs, used when several fields reference the same content type and share one fetch.
+     */
+    public PopulateSpec merge(PopulateSpec other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        Map<String, PopulateSpec> merged = new LinkedHashMap<>(paths);
+        other.paths.forEach((name, spec) -> merged.merge(name, spec, PopulateSpec::merge));
+        return new PopulateSpec(Math.max(wildcardDepth, other.wildcardDepth), Collections.unmodifiableMap(merged));
+    }
+
+    private static boolean isPopulatable(FieldSchema field) {
+        return field.getType() == FieldType.MEDIA
+                || (field.getType() == FieldType.RELATION && field.getTargetContentType() != null);
+    }
+
+    private static final class Builder {
+        private int wildcardDepth;
+        private final Map<String, Builder> paths = new LinkedHashMap<>();
+
+        PopulateSpec build() {
+            Map<String, PopulateSpec> built = new LinkedHashMap<>();
+            paths.forEach((name, node) -> built.put(name, node.build()));
+            return new PopulateSpec(wildcardDepth, Collections.unmodifiableMap(built));
+        }
+    }
+}
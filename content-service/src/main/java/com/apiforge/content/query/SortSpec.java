@@ -0,0 +1,52 @@
+package com.apiforge.content.query;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.model.FieldSchema;
+import com.apiforge.content.model.FieldType;
+
+/**
+ * A single sort key. Pagination always breaks ties on {@code id} in the same direction, so any sort key
+ * yields a total order that a keyset cursor can resume from.
+ */
+public class SortSpec {
+
+    public static final SortSpec DEFAULT = new SortSpec(ContentTypeSchema.ID, false);
+
+    private final FieldSchema column;
+    private final boolean descending;
+
+    public SortSpec(FieldSchema column, boolean descending) {
+        this.column = column;
+        this.descending = descending;
+    }
+
+    /**
+     * Parses {@code field} or {@code -field} (descending) against the schema.
+     */
+    public static SortSpec parse(String raw, ContentTypeSchema schema) {
+        if (raw == null || raw.isBlank()) {
+            return DEFAULT;
+        }
+        String value = raw.trim();
+        boolean descending = value.startsWith("-");
+        String columnName = descending ? value.substring(1) : value;
+        FieldSchema column = schema.requireColumn(columnName);
+        if (column.getType() == FieldType.LONG_TEXT || column.getType() == FieldType.RICH_TEXT) {
+            throw new CustomExceptions.BadRequestException("Field '" + columnName + "' is not sortable");
+        }
+        return new SortSpec(column, descending);
+    }
+
+    public FieldSchema getColumn() { return column; }
+
+    public String getColumnName() { return column.getFieldName(); }
+
+    public boolean isDescending() { return descending; }
+
+    public boolean isById() { return column == ContentTypeSchema.ID; }
+
+    public String toParam() {
+        return (descending ? "-" : "") + column.getFieldName();
+    }
+}
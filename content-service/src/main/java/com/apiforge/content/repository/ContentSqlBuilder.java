@@ -0,0 +1,195 @@
+package com.apiforge.content.repository;
+
+import com.apiforge.content.query.ContentCursor;
+import com.apiforge.content.query.ContentQuery;
+import com.apiforge.content.query.FilterPredicate;
+import com.apiforge.content.query.SortSpec;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds SQL for {@code ct_*} tables. Table and column names must already be validated against the content
+ * type schema; values are always bound as parameters.
+ */
+@Component
+public class ContentSqlBuilder {
+
+    /**
+     * Keyset page query. Fetches {@code limit + 1} rows so the caller can tell whether another page exists.
+     */
+    public SqlStatement selectPage(String tableName, ContentQuery query) {
+        SortSpec sort = query.getSort();
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(projection(query))
+                .append(" FROM ").append(tableName);
+
+        List<String> predicates = new ArrayList<>(2);
+        if (query.getFilter() != null) {
+            predicates.add(query.getFilter().getSql());
+            params.addAll(query.getFilter().getParams());
+        }
+        if (query.getCursor() != null) {
+            predicates.add(keysetPredicate(sort, query.getCursor(), params));
+        }
+        if (!predicates.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+
+        String direction = sort.isDescending() ? " DESC" : " ASC";
+        sql.append(" ORDER BY ");
+        if (!sort.isById()) {
+            sql.append(sort.getColumnName()).append(direction).append(", ");
+        }
+        sql.append("id").append(direction);
+        sql.append(" LIMIT ?");
+        params.add(query.getLimit() + 1);
+        return new SqlStatement(sql.toString(), params);
+    }
+
+    /**
+     * Full scan in primary key order, for streaming exports.
+     */
+    public SqlStatement selectAll(String tableName, List<String> fields) {
+        String columns = fields == null ? "*" : String.join(", ", fields);
+        return new SqlStatement("SELECT " + columns + " FROM " + tableName + " ORDER BY id", List.of());
+    }
+
+    /**
+     * Single-row insert returning the stored row. An empty column list inserts a row of defaults.
+     */
+    public String insert(String tableName, List<String> columns) {
+        if (columns.isEmpty()) {
+            return "INSERT INTO " + tableName + " DEFAULT VALUES RETURNING *";
+        }
+        return "INSERT INTO " + tableName + " (" + String.join(", ", columns) + ") VALUES "
+                + placeholders(columns.size()) + " RETURNING *";
+    }
+
+    /**
+     * Multi-row insert. Callers that need the ids pass them in as the {@code id} column.
+     */
+    public String insertMany(String tableName, List<String> columns, int rowCount) {
+        return "INSERT INTO " + tableName + " (" + String.join(", ", columns) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rowCount, placeholders(columns.size())));
+    }
+
+    /**
+     * Draws {@code ?} values from the table's id sequence.
+     */
+    public String allocateIds(String tableName) {
+        return "SELECT nextval(pg_get_serial_sequence('" + tableName + "', 'id')) FROM generate_series(1, ?)";
+    }
+
+    public String selectById(String tableName) {
+        return "SELECT * FROM " + tableName + " WHERE id = ?";
+    }
+
+    /**
+     * Row count and a digest of every row's id and {@code xmin}, the id of the transaction that wrote that row
+     * version. Every committed insert, update and delete changes the set of pairs, whatever order concurrent
+     * transactions commit in; {@code max(updated_at)} does not, as {@code CURRENT_TIMESTAMP} is the
+     * transaction's start time and an earlier-started writer can commit last.
+     */
+    public String selectVersion(String tableName) {
+        return "SELECT count(*) AS row_count, "
+                + "coalesce(sum(hashtextextended(id::text || ':' || xmin::text, 0)), 0) AS row_digest FROM " + tableName;
+    }
+
+    /**
+     * Rows for a {@code bigint[]} of ids, in no particular order.
+     */
+    public String selectByIds(String tableName) {
+        return "SELECT * FROM " + tableName + " WHERE id = ANY(?)";
+    }
+
+    /**
+     * Every row matching the filter, in primary key order.
+     */
+    public SqlStatement selectWhere(String tableName, FilterPredicate filter) {
+        return new SqlStatement("SELECT * FROM " + tableName + " WHERE " + filter.getSql() + " ORDER BY id",
+                filter.getParams());
+    }
+
+    /**
+     * Update by id returning the stored row; parameters are the column values followed by the id.
+     */
+    public String update(String tableName, List<String> columns) {
+        return updateById(tableName, columns) + " RETURNING *";
+    }
+
+    /**
+     * Update by id; parameters are the column values followed by the id.
+     */
+    public String updateById(String tableName, List<String> columns) {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(tableName).append(" SET ");
+        for (String column : columns) {
+            sql.append(column).append(" = ?, ");
+        }
+        return sql.append("updated_at = CURRENT_TIMESTAMP WHERE id = ?").toString();
+    }
+
+    public String deleteById(String tableName) {
+        return "DELETE FROM " + tableName + " WHERE id = ?";
+    }
+
+    /**
+     * Delete by a {@code bigint[]} of ids, returning the ids that existed.
+     */
+    public String deleteByIds(String tableName) {
+        return "DELETE FROM " + tableName + " WHERE id = ANY(?) RETURNING id";
+    }
+
+    private static String placeholders(int count) {
+        return "(" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+
+    private String projection(ContentQuery query) {
+        if (query.getFields() == null) {
+            return "*";
+        }
+        // id and the sort key are always needed to build the next cursor.
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add("id");
+        columns.add(query.getSort().getColumnName());
+        columns.addAll(query.getFields());
+        return String.join(", ", columns);
+    }
+
+    /**
+     * Rows strictly after the cursor in {@code ORDER BY sort, id}. PostgreSQL sorts NULLs last ascending and
+     * first descending, so nullable sort keys need explicit NULL branches; NOT NULL keys use a row comparison
+     * that a composite index can serve directly.
+     */
+    private String keysetPredicate(SortSpec sort, ContentCursor cursor, List<Object> params) {
+        String op = sort.isDescending() ? "<" : ">";
+        String column = sort.getColumnName();
+        Object value = cursor.getSortValue();
+
+        if (sort.isById()) {
+            params.add(cursor.getId());
+            return "id " + op + " ?";
+        }
+        if (!sort.getColumn().isNullable()) {
+            params.add(value);
+            params.add(cursor.getId());
+            return "(" + column + ", id) " + op + " (?, ?)";
+        }
+        if (value == null) {
+            params.add(cursor.getId());
+            return sort.isDescending()
+                    ? "((" + column + " IS NULL AND id < ?) OR " + column + " IS NOT NULL)"
+                    : "(" + column + " IS NULL AND id > ?)";
+        }
+        params.add(value);
+        params.add(value);
+        params.add(cursor.getId());
+        String predicate = "(" + column + " " + op + " ? OR (" + column + " = ? AND id " + op + " ?)";
+        return sort.isDescending() ? predicate + ")" : predicate + " OR " + column + " IS NULL)";
+    }
+}
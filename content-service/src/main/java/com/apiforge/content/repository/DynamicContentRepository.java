@@ -1,89 +1,183 @@
 package com.apiforge.content.repository;
 
+import com.apiforge.content.query.ContentQuery;
+import com.apiforge.content.query.FilterPredicate;
+import com.apiforge.content.repository.SqlTemplateCache.Operation;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Repository
 public class DynamicContentRepository {
 
+    private static final int MAX_BIND_PARAMETERS = 65535;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    public Map<String, Object> create(String tableName, Map<String, Object> data) {
-        StringBuilder columns = new StringBuilder();
-        StringBuilder values = new StringBuilder();
-        List<Object> params = new java.util.ArrayList<>();
-
-        data.forEach((key, value) -> {
-            if (columns.length() > 0) {
-                columns.append(", ");
-                values.append(", ");
-            }
-            columns.append(key);
-            values.append("?");
-            params.add(value);
-        });
+    @Autowired
+    private ContentSqlBuilder contentSqlBuilder;
 
-        String sql = String.format("INSERT INTO %s (%s) VALUES (%s) RETURNING *",
-                tableName, columns, values);
+    @Autowired
+    private SqlTemplateCache sqlTemplateCache;
+
+    @Autowired
+    private RepositoryMetrics repositoryMetrics;
 
-        return jdbcTemplate.queryForMap(sql, params.toArray());
+    public Map<String, Object> create(String tableName, Map<String, Object> data) {
+        List<String> columns = SqlTemplateCache.canonical(data.keySet());
+        String sql = sqlTemplateCache.get(tableName, Operation.INSERT, columns,
+                () -> contentSqlBuilder.insert(tableName, columns));
+        return repositoryMetrics.record(tableName, "create",
+                () -> jdbcTemplate.queryForMap(sql, values(columns, data).toArray()));
     }
 
     public List<Map<String, Object>> findAll(String tableName) {
         String sql = String.format("SELECT * FROM %s", tableName);
-        return jdbcTemplate.queryForList(sql);
+        return repositoryMetrics.record(tableName, "find_all", () -> jdbcTemplate.queryForList(sql));
+    }
+
+    public List<Map<String, Object>> findPage(String tableName, ContentQuery query) {
+        SqlStatement statement = contentSqlBuilder.selectPage(tableName, query);
+        return repositoryMetrics.record(tableName, "find_page",
+                () -> jdbcTemplate.queryForList(statement.getSql(), statement.getParamArray()));
+    }
+
+    /**
+     * Streams every row through {@code handler} without materializing the result. PostgreSQL only uses a
+     * server-side cursor when a fetch size is set on a forward-only statement inside a transaction, so
+     * callers must hold one open.
+     */
+    public void streamAll(String tableName, List<String> fields, int fetchSize, RowCallbackHandler handler) {
+        SqlStatement statement = contentSqlBuilder.selectAll(tableName, fields);
+        repositoryMetrics.record(tableName, "stream_all", () -> jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    statement.getSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, handler));
     }
 
     public Map<String, Object> findById(String tableName, Long id) {
-        String sql = String.format("SELECT * FROM %s WHERE id = ?", tableName);
-        List<Map<String, Object>> results = jdbcTemplate.queryForList(sql, id);
+        String sql = sqlTemplateCache.get(tableName, Operation.SELECT_BY_ID, List.of(),
+                () -> contentSqlBuilder.selectById(tableName));
+        List<Map<String, Object>> results = repositoryMetrics.record(tableName, "find_by_id",
+                () -> jdbcTemplate.queryForList(sql, id));
         return results.isEmpty() ? null : results.get(0);
     }
 
-    public Map<String, Object> update(String tableName, Long id, Map<String, Object> data) {
-        StringBuilder setClause = new StringBuilder();
-        List<Object> params = new java.util.ArrayList<>();
+    /**
+     * @return {@code row_count} and {@code row_digest} (see {@link ContentSqlBuilder#selectVersion})
+     */
+    public Map<String, Object> findVersion(String tableName) {
+        String sql = sqlTemplateCache.get(tableName, Operation.SELECT_VERSION, List.of(),
+                () -> contentSqlBuilder.selectVersion(tableName));
+        return repositoryMetrics.record(tableName, "find_version", () -> jdbcTemplate.queryForMap(sql));
+    }
 
-        data.forEach((key, value) -> {
-            if (setClause.length() > 0) {
-                setClause.append(", ");
-            }
-            setClause.append(key).append(" = ?");
-            params.add(value);
-        });
+    public List<Map<String, Object>> findByIds(String tableName, List<Long> ids) {
+        String sql = sqlTemplateCache.get(tableName, Operation.SELECT_BY_IDS, List.of(),
+                () -> contentSqlBuilder.selectByIds(tableName));
+        return repositoryMetrics.record(tableName, "find_by_ids", () -> jdbcTemplate.query(sql,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+                new ColumnMapRowMapper()));
+    }
 
+    public Map<String, Object> update(String tableName, Long id, Map<String, Object> data) {
+        List<String> columns = SqlTemplateCache.canonical(data.keySet());
+        String sql = sqlTemplateCache.get(tableName, Operation.UPDATE, columns,
+                () -> contentSqlBuilder.update(tableName, columns));
+        List<Object> params = values(columns, data);
         params.add(id);
 
-        String sql = String.format("UPDATE %s SET %s, updated_at = CURRENT_TIMESTAMP WHERE id = ? RETURNING *",
-                tableName, setClause);
-
-        List<Map<String, Object>> results = jdbcTemplate.queryForList(sql, params.toArray());
+        List<Map<String, Object>> results = repositoryMetrics.record(tableName, "update",
+                () -> jdbcTemplate.queryForList(sql, params.toArray()));
         return results.isEmpty() ? null : results.get(0);
     }
 
-    public void delete(String tableName, Long id) {
-        String sql = String.format("DELETE FROM %s WHERE id = ?", tableName);
-        jdbcTemplate.update(sql, id);
+    /**
+     * Inserts all rows with one multi-row statement per chunk and returns their ids in {@code rows} order.
+     * PostgreSQL does not promise that {@code INSERT ... RETURNING} returns rows in {@code VALUES} order, so
+     * the ids are drawn from the table's sequence first and inserted explicitly. PostgreSQL caps a statement
+     * at 65535 bind parameters, so chunks are sized from the column count.
+     */
+    public List<Long> insertBatch(String tableName, List<String> columns, List<Object[]> rows) {
+        String allocateSql = sqlTemplateCache.get(tableName, Operation.ALLOCATE_IDS, List.of(),
+                () -> contentSqlBuilder.allocateIds(tableName));
+        List<Long> ids = repositoryMetrics.record(tableName, "allocate_ids",
+                () -> jdbcTemplate.queryForList(allocateSql, Long.class, rows.size()));
+
+        List<String> insertColumns = new ArrayList<>(columns.size() + 1);
+        insertColumns.add("id");
+        insertColumns.addAll(columns);
+        int rowsPerStatement = Math.max(1, MAX_BIND_PARAMETERS / insertColumns.size());
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            int to = Math.min(rows.size(), from + rowsPerStatement);
+            List<Object> params = new ArrayList<>((to - from) * insertColumns.size());
+            for (int i = from; i < to; i++) {
+                params.add(ids.get(i));
+                params.addAll(Arrays.asList(rows.get(i)));
+            }
+            int rowCount = to - from;
+            String sql = sqlTemplateCache.get(tableName, Operation.INSERT_MANY, insertColumns, rowCount,
+                    () -> contentSqlBuilder.insertMany(tableName, insertColumns, rowCount));
+            repositoryMetrics.record(tableName, "insert_batch", () -> jdbcTemplate.update(sql, params.toArray()));
+        }
+        return ids;
+    }
+
+    /**
+     * Runs one JDBC batch; each row holds the column values, in {@code columns} order, followed by the id.
+     *
+     * @return affected row count per input row
+     */
+    public int[] updateBatch(String tableName, List<String> columns, List<Object[]> rows) {
+        String sql = sqlTemplateCache.get(tableName, Operation.UPDATE_BY_ID, columns,
+                () -> contentSqlBuilder.updateById(tableName, columns));
+        return repositoryMetrics.record(tableName, "update_batch", () -> jdbcTemplate.batchUpdate(sql, rows));
     }
 
-    public List<Map<String, Object>> findWithFilters(String tableName, Map<String, Object> filters) {
-        StringBuilder whereClause = new StringBuilder();
-        List<Object> params = new java.util.ArrayList<>();
+    /**
+     * @return the subset of {@code ids} that existed and were deleted
+     */
+    public Set<Long> deleteBatch(String tableName, List<Long> ids) {
+        String sql = sqlTemplateCache.get(tableName, Operation.DELETE_BY_IDS, List.of(),
+                () -> contentSqlBuilder.deleteByIds(tableName));
+        List<Long> deleted = repositoryMetrics.record(tableName, "delete_batch", () -> jdbcTemplate.query(
+                sql,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+                (rs, rowNum) -> rs.getLong(1)));
+        return new HashSet<>(deleted);
+    }
 
-        filters.forEach((key, value) -> {
-            if (whereClause.length() > 0) {
-                whereClause.append(" AND ");
-            }
-            whereClause.append(key).append(" = ?");
-            params.add(value);
-        });
+    public void delete(String tableName, Long id) {
+        String sql = sqlTemplateCache.get(tableName, Operation.DELETE_BY_ID, List.of(),
+                () -> contentSqlBuilder.deleteById(tableName));
+        repositoryMetrics.record(tableName, "delete", () -> jdbcTemplate.update(sql, id));
+    }
+
+    public List<Map<String, Object>> findWhere(String tableName, FilterPredicate filter) {
+        SqlStatement statement = contentSqlBuilder.selectWhere(tableName, filter);
+        return repositoryMetrics.record(tableName, "find_where",
+                () -> jdbcTemplate.queryForList(statement.getSql(), statement.getParamArray()));
+    }
 
-        String sql = String.format("SELECT * FROM %s WHERE %s", tableName, whereClause);
-        return jdbcTemplate.queryForList(sql, params.toArray());
+    private static List<Object> values(List<String> columns, Map<String, Object> data) {
+        List<Object> values = new ArrayList<>(columns.size() + 1);
+        for (String column : columns) {
+            values.add(data.get(column));
+        }
+        return values;
     }
 }
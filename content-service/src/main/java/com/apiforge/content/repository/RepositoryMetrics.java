@@ -0,0 +1,41 @@
+package com.apiforge.content.repository;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Observes {@link DynamicContentRepository} calls as {@code apiforge.content.repository}, tagged with the
+ * content type and the operation. Each call becomes a timer sample (failed calls carry the exception in
+ * the {@code error} tag) and, when tracing is on, a span that groups the JDBC spans it issues.
+ */
+@Component
+public class RepositoryMetrics {
+
+    static final String OBSERVATION_NAME = "apiforge.content.repository";
+    private static final String TABLE_PREFIX = "ct_";
+
+    private final ObservationRegistry observationRegistry;
+
+    public RepositoryMetrics(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    public <T> T record(String tableName, String operation, Supplier<T> action) {
+        String contentType = tableName.startsWith(TABLE_PREFIX) ? tableName.substring(TABLE_PREFIX.length()) : tableName;
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("repository " + operation)
+                .lowCardinalityKeyValue("contentType", contentType)
+                .lowCardinalityKeyValue("operation", operation)
+                .observe(action);
+    }
+
+    public void record(String tableName, String operation, Runnable action) {
+        record(tableName, operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.apiforge.content.repository;
+
+import java.util.List;
+
+public class SqlStatement {
+
+    private final String sql;
+    private final List<Object> params;
+
+    public SqlStatement(String sql, List<Object> params) {
+        this.sql = sql;
+        this.params = params;
+    }
+
+    public String getSql() { return sql; }
+    public List<Object> getParams() { return params; }
+    public Object[] getParamArray() { return params.toArray(); }
+}
@@ -0,0 +1,69 @@
+package com.apiforge.content.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caches generated SQL text per (table, operation, column set). Columns are put into a canonical (sorted)
+ * order before lookup, so the same logical statement always produces byte-identical SQL regardless of the
+ * order a client sent its JSON keys in. That is what lets pgjdbc's per-connection statement cache recognise
+ * repeats and switch them to server-side prepared statements after {@code prepareThreshold} executions.
+ */
+@Component
+public class SqlTemplateCache {
+
+    public enum Operation {
+        INSERT, INSERT_MANY, ALLOCATE_IDS, SELECT_BY_ID, SELECT_BY_IDS, SELECT_VERSION, UPDATE, UPDATE_BY_ID, DELETE_BY_ID, DELETE_BY_IDS
+    }
+
+    private record Key(String tableName, Operation operation, List<String> columns, int rows) {
+    }
+
+    private final Cache<Key, String> cache;
+
+    public SqlTemplateCache(@Value("${apiforge.content.sql-cache.maximum-size:2000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The canonical column order callers must bind parameters in.
+     */
+    public static List<String> canonical(Collection<String> columns) {
+        return columns.stream().sorted().toList();
+    }
+
+    /**
+     * @param columns columns already in {@link #canonical} order
+     * @param rows    row count for multi-row statements, otherwise 1
+     */
+    public String get(String tableName, Operation operation, List<String> columns, int rows, Supplier<String> builder) {
+        return cache.get(new Key(tableName, operation, columns, rows), key -> builder.get());
+    }
+
+    public String get(String tableName, Operation operation, List<String> columns, Supplier<String> builder) {
+        return get(tableName, operation, columns, 1, builder);
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package com.apiforge.content.service;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.model.ContentAction;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enforces content permissions for the caller of the current request. Roles come from the
+ * {@code X-User-Roles} header the gateway sets from the verified token (or to {@code PUBLIC} for
+ * anonymous requests); a request without the header is treated as {@code PUBLIC}.
+ */
+@Service
+public class ContentAccessGuard {
+
+    static final String ROLES_HEADER = "X-User-Roles";
+    private static final List<String> PUBLIC_ROLES = List.of("PUBLIC");
+
+    @Autowired
+    private ContentPermissionReplica contentPermissionReplica;
+
+    @Value("${apiforge.content.permissions.enforce:true}")
+    private boolean enforce;
+
+    public void require(String apiId, ContentAction action) {
+        if (!enforce) {
+            return;
+        }
+        if (!contentPermissionReplica.isAllowed(apiId, action, currentRoles())) {
+            throw new CustomExceptions.ForbiddenException(
+                    action.name() + " is not permitted on content type '" + apiId + "'");
+        }
+    }
+
+    private static List<String> currentRoles() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return PUBLIC_ROLES;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String header = request.getHeader(ROLES_HEADER);
+        if (header == null || header.isBlank()) {
+            return PUBLIC_ROLES;
+        }
+        List<String> roles = new ArrayList<>();
+        for (String role : header.split(",")) {
+            String trimmed = role.trim();
+            if (!trimmed.isEmpty()) {
+                roles.add(trimmed);
+            }
+        }
+        return roles.isEmpty() ? PUBLIC_ROLES : roles;
+    }
+}
@@ -0,0 +1,179 @@
+package com.apiforge.content.service;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.dto.BulkOperationDto;
+import com.apiforge.content.dto.BulkOperationResultDto;
+import com.apiforge.content.dto.BulkRequestDto;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.repository.DynamicContentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Applies a list of create/update/delete operations in one transaction. Every operation is validated
+ * against the cached schema before anything is written, then consecutive operations of the same kind
+ * (and, for writes, the same column set) are sent as a single batch instead of one round trip each.
+ */
+@Service
+public class ContentBulkService {
+
+    public enum OpType { CREATE, UPDATE, DELETE }
+
+    @Autowired
+    private DynamicContentRepository dynamicContentRepository;
+
+    @Autowired
+    private ContentTypeSchemaCache contentTypeSchemaCache;
+
+    @Value("${apiforge.content.bulk.batch-size:500}")
+    private int batchSize;
+
+    @Value("${apiforge.content.bulk.max-operations:10000}")
+    private int maxOperations;
+
+    @Transactional
+    public List<BulkOperationResultDto> execute(String apiId, BulkRequestDto request) {
+        ContentTypeSchema schema = contentTypeSchemaCache.getSchema(apiId);
+        List<Operation> operations = validate(schema, request);
+
+        BulkOperationResultDto[] results = new BulkOperationResultDto[operations.size()];
+        int start = 0;
+        while (start < operations.size()) {
+            int end = start + 1;
+            while (end < operations.size() && end - start < batchSize
+                    && operations.get(end).batchesWith(operations.get(start))) {
+                end++;
+            }
+            apply(schema.getTableName(), operations.subList(start, end), results);
+            start = end;
+        }
+        return List.of(results);
+    }
+
+    private void apply(String tableName, List<Operation> batch, BulkOperationResultDto[] results) {
+        Operation first = batch.get(0);
+        switch (first.type) {
+            case CREATE -> {
+                List<Object[]> rows = new ArrayList<>(batch.size());
+                for (Operation op : batch) {
+                    rows.add(op.values.values().toArray());
+                }
+                List<Long> ids = dynamicContentRepository.insertBatch(tableName, first.columns(), rows);
+                for (int i = 0; i < batch.size(); i++) {
+                    results[batch.get(i).index] = result(batch.get(i), ids.get(i), "CREATED");
+                }
+            }
+            case UPDATE -> {
+                List<Object[]> rows = new ArrayList<>(batch.size());
+                for (Operation op : batch) {
+                    List<Object> params = new ArrayList<>(op.values.values());
+                    params.add(op.id);
+                    rows.add(params.toArray());
+                }
+                int[] counts = dynamicContentRepository.updateBatch(tableName, first.columns(), rows);
+                for (int i = 0; i < batch.size(); i++) {
+                    results[batch.get(i).index] = result(batch.get(i), batch.get(i).id,
+                            counts[i] == 0 ? "NOT_FOUND" : "UPDATED");
+                }
+            }
+            case DELETE -> {
+                List<Long> ids = new ArrayList<>(batch.size());
+                for (Operation op : batch) {
+                    ids.add(op.id);
+                }
+                Set<Long> deleted = dynamicContentRepository.deleteBatch(tableName, ids);
+                for (Operation op : batch) {
+                    results[op.index] = result(op, op.id, deleted.contains(op.id) ? "DELETED" : "NOT_FOUND");
+                }
+            }
+        }
+    }
+
+    private List<Operation> validate(ContentTypeSchema schema, BulkRequestDto request) {
+        if (request == null || request.getOperations() == null || request.getOperations().isEmpty()) {
+            throw new CustomExceptions.BadRequestException("operations must not be empty");
+        }
+        if (request.getOperations().size() > maxOperations) {
+            throw new CustomExceptions.BadRequestException(
+                    "A bulk request may contain at most " + maxOperations + " operations");
+        }
+
+        List<Operation> operations = new ArrayList<>(request.getOperations().size());
+        for (int i = 0; i < request.getOperations().size(); i++) {
+            try {
+                operations.add(toOperation(schema, i, request.getOperations().get(i)));
+            } catch (CustomExceptions.BadRequestException ex) {
+                throw new CustomExceptions.BadRequestException("operations[" + i + "]: " + ex.getMessage());
+            }
+        }
+        return operations;
+    }
+
+    private Operation toOperation(ContentTypeSchema schema, int index, BulkOperationDto dto) {
+        if (dto == null || dto.getOp() == null) {
+            throw new CustomExceptions.BadRequestException("op is required");
+        }
+        OpType type;
+        try {
+            type = OpType.valueOf(dto.getOp().trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new CustomExceptions.BadRequestException("Unsupported op: " + dto.getOp());
+        }
+
+        if (type != OpType.CREATE && dto.getId() == null) {
+            throw new CustomExceptions.BadRequestException("id is required for " + dto.getOp());
+        }
+        if (type == OpType.DELETE) {
+            return new Operation(index, type, dto.getId(), null);
+        }
+
+        Map<String, Object> data = dto.getData();
+        if (data == null || data.isEmpty()) {
+            throw new CustomExceptions.BadRequestException("data is required for " + dto.getOp());
+        }
+        // Sorted so that operations touching the same columns produce identical SQL and can share a batch.
+        TreeMap<String, Object> values = ContentValues.forWrite(schema, data, type == OpType.CREATE);
+        return new Operation(index, type, type == OpType.UPDATE ? dto.getId() : null, values);
+    }
+
+    private static BulkOperationResultDto result(Operation op, Long id, String status) {
+        return BulkOperationResultDto.builder()
+                .index(op.index)
+                .op(op.type.name().toLowerCase(Locale.ROOT))
+                .id(id)
+                .status(status)
+                .build();
+    }
+
+    private static final class Operation {
+        private final int index;
+        private final OpType type;
+        private final Long id;
+        private final TreeMap<String, Object> values;
+
+        Operation(int index, OpType type, Long id, TreeMap<String, Object> values) {
+            this.index = index;
+            this.type = type;
+            this.id = id;
+            this.values = values;
+        }
+
+        List<String> columns() {
+            return new ArrayList<>(values.keySet());
+        }
+
+        boolean batchesWith(Operation other) {
+            return type == other.type
+                    && (type == OpType.DELETE || values.keySet().equals(other.values.keySet()));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.apiforge.content.service;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.query.FieldProjection;
+import com.apiforge.content.repository.DynamicContentRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams a whole content type straight from a JDBC cursor to the response body, so memory use does not
+ * depend on table size and the first bytes go out as soon as the first fetch returns.
+ */
+@Service
+public class ContentExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        JSON("application/json", "json");
+
+        private final String mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String getMediaType() { return mediaType; }
+        public String getExtension() { return extension; }
+
+        public static Format parse(String raw) {
+            if (raw == null || raw.isBlank()) {
+                return NDJSON;
+            }
+            try {
+                return Format.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new CustomExceptions.BadRequestException("Unsupported export format: " + raw);
+            }
+        }
+    }
+
+    public static class ContentExport {
+        private final ContentTypeSchema schema;
+        private final List<String> fields;
+        private final Format format;
+
+        ContentExport(ContentTypeSchema schema, List<String> fields, Format format) {
+            this.schema = schema;
+            this.fields = fields;
+            this.format = format;
+        }
+
+        public String getApiId() { return schema.getApiId(); }
+        public Format getFormat() { return format; }
+        public String getFileName() { return schema.getApiId() + "." + format.getExtension(); }
+    }
+
+    @Autowired
+    private DynamicContentRepository dynamicContentRepository;
+
+    @Autowired
+    private ContentTypeSchemaCache contentTypeSchemaCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${apiforge.content.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Validates the request up front so that errors still produce a normal error response; once
+     * {@link #write} starts, the status line has already been sent.
+     */
+    public ContentExport prepare(String apiId, String format, String fields) {
+        ContentTypeSchema schema = contentTypeSchemaCache.getSchema(apiId);
+        return new ContentExport(schema, FieldProjection.parse(schema, fields), Format.parse(format));
+    }
+
+    @Transactional(readOnly = true)
+    public void write(ContentExport export, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            boolean ndjson = export.format == Format.NDJSON;
+            if (ndjson) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+
+            RowWriter rowWriter = new RowWriter(generator, ndjson);
+            try {
+                dynamicContentRepository.streamAll(
+                        export.schema.getTableName(), export.fields, fetchSize, rowWriter::write);
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    private class RowWriter {
+        private final JsonGenerator generator;
+        private final boolean ndjson;
+        private String[] columns;
+        private long rows;
+
+        RowWriter(JsonGenerator generator, boolean ndjson) {
+            this.generator = generator;
+            this.ndjson = ndjson;
+        }
+
+        void write(ResultSet rs) throws SQLException {
+            if (columns == null) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                columns = new String[metaData.getColumnCount()];
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = metaData.getColumnLabel(i + 1);
+                }
+            }
+            try {
+                generator.writeStartObject();
+                for (int i = 0; i < columns.length; i++) {
+                    generator.writeFieldName(columns[i]);
+                    generator.writeObject(rs.getObject(i + 1));
+                }
+                generator.writeEndObject();
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+                // Push each fetched batch to the client instead of letting it wait behind the buffer.
+                if (++rows % fetchSize == 0) {
+                    generator.flush();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.apiforge.content.service;
+
+import com.apiforge.common.dto.ApiResponse;
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.model.ContentAction;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Local copy of permission-service's content permission table, so enforcing a rule costs a map lookup
+ * instead of a remote call. The copy is loaded in full and reloaded whenever permission-service's change
+ * stream reports a content permission change, a skipped version or a reconnect. The table is small
+ * (four rows per content type), so reloading it whole is simpler than applying deltas.
+ */
+@Service
+public class ContentPermissionReplica {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentPermissionReplica.class);
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Map<String, Object>>>> PERMISSION_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final ParameterizedTypeReference<ServerSentEvent<Map<String, Object>>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final String permissionServiceUrl;
+    private final Duration loadTimeout;
+    private final Duration maxBackoff;
+
+    /** contentTypeApiId -> action -> allowed roles; replaced as a whole on reload. */
+    private volatile Map<String, Map<ContentAction, Set<String>>> rules;
+    private volatile long lastVersion = -1;
+    private volatile Disposable subscription;
+    /** The load shared by requests arriving before the first snapshot; cleared when it fails. */
+    private final AtomicReference<CompletableFuture<Map<String, Map<ContentAction, Set<String>>>>> initialLoad =
+            new AtomicReference<>();
+
+    public ContentPermissionReplica(
+            WebClient webClient,
+            @Value("${permission-service.url:http://localhost:7085}") String permissionServiceUrl,
+            @Value("${apiforge.content.permissions.load-timeout:5s}") Duration loadTimeout,
+            @Value("${apiforge.content.permissions.max-backoff:30s}") Duration maxBackoff) {
+        this.webClient = webClient;
+        this.permissionServiceUrl = permissionServiceUrl;
+        this.loadTimeout = loadTimeout;
+        this.maxBackoff = maxBackoff;
+    }
+
+    public boolean isAllowed(String contentTypeApiId, ContentAction action, List<String> roles) {
+        Map<ContentAction, Set<String>> byAction = current().get(contentTypeApiId);
+        Set<String> allowed = byAction != null ? byAction.get(action) : null;
+        if (allowed == null) {
+            return false;
+        }
+        for (String role : roles) {
+            if (allowed.contains(role)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long getVersion() {
+        return lastVersion;
+    }
+
+    public int getRuleCount() {
+        return current().values().stream().mapToInt(Map::size).sum();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = webClient.get()
+                .uri(permissionServiceUrl + "/internal/permission-matrix/events")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(EVENT_TYPE)
+                .concatMap(event -> needsReload(event) ? load().doOnNext(this::replace).then() : Mono.<Void>empty())
+                .doOnError(ex -> log.debug("Permission event stream failed: {}", ex.getMessage()))
+                .repeatWhen(completed -> completed.delayElements(Duration.ofSeconds(1)))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(maxBackoff)
+                        .transientErrors(true))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * The current rules. Until the first snapshot has loaded, callers share one in-flight load and wait for
+     * it; if it fails, they get a 503 and the next caller starts a new load. Once loaded, a snapshot keeps
+     * being served until a reload succeeds, so requests are refused rather than served without enforcement
+     * only while no snapshot has ever been loaded.
+     */
+    private Map<String, Map<ContentAction, Set<String>>> current() {
+        Map<String, Map<ContentAction, Set<String>>> snapshot = rules;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        try {
+            return startInitialLoad().join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            if (isUnavailable(cause)) {
+                throw new CustomExceptions.ServiceUnavailableException("permission-service is unavailable");
+            }
+            throw cause instanceof RuntimeException runtime ? runtime : ex;
+        }
+    }
+
+    private CompletableFuture<Map<String, Map<ContentAction, Set<String>>>> startInitialLoad() {
+        while (true) {
+            CompletableFuture<Map<String, Map<ContentAction, Set<String>>>> running = initialLoad.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Map<String, Map<ContentAction, Set<String>>>> created = new CompletableFuture<>();
+            if (!initialLoad.compareAndSet(null, created)) {
+                continue;
+            }
+            load().timeout(loadTimeout)
+                    .switchIfEmpty(Mono.error(() -> new IllegalStateException("Empty content permission response")))
+                    .subscribe(loaded -> {
+                        replace(loaded);
+                        initialLoad.set(null);
+                        created.complete(loaded);
+                    }, ex -> {
+                        log.debug("Loading content permissions failed: {}", ex.getMessage());
+                        initialLoad.set(null);
+                        created.completeExceptionally(ex);
+                    });
+            return created;
+        }
+    }
+
+    private static boolean isUnavailable(Throwable ex) {
+        return ex instanceof TimeoutException
+                || ex instanceof WebClientRequestException
+                || ex instanceof WebClientResponseException
+                || ex instanceof IllegalStateException;
+    }
+
+    private boolean needsReload(ServerSentEvent<Map<String, Object>> event) {
+        Map<String, Object> data = event.data();
+        if (data == null || !(data.get("version") instanceof Number number)) {
+            return false;
+        }
+        long version = number.longValue();
+        long previous = lastVersion;
+        lastVersion = version;
+        if ("snapshot".equals(event.event())) {
+            return version != previous || rules == null;
+        }
+        return version != previous + 1 || !"API".equals(data.get("scope"));
+    }
+
+    private void replace(Map<String, Map<ContentAction, Set<String>>> loaded) {
+        rules = loaded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<Map<String, Map<ContentAction, Set<String>>>> load() {
+        return webClient.get()
+                .uri(permissionServiceUrl + "/api/permissions/content")
+                .retrieve()
+                .bodyToMono(PERMISSION_LIST)
+                .map(response -> {
+                    Map<String, Map<ContentAction, Set<String>>> loaded = new HashMap<>();
+                    List<Map<String, Object>> permissions = response.getData() != null ? response.getData() : List.of();
+                    for (Map<String, Object> permission : permissions) {
+                        ContentAction action;
+                        try {
+                            action = ContentAction.valueOf(String.valueOf(permission.get("action")));
+                        } catch (IllegalArgumentException ex) {
+                            continue;
+                        }
+                        Set<String> roles = permission.get("allowedRoles") instanceof Collection<?> allowed
+                                ? Set.copyOf((Collection<String>) allowed)
+                                : Set.of();
+                        loaded.computeIfAbsent((String) permission.get("contentTypeApiId"),
+                                        key -> new EnumMap<>(ContentAction.class))
+                                .merge(action, roles, (a, b) -> {
+                                    Set<String> union = new HashSet<>(a);
+                                    union.addAll(b);
+                                    return Set.copyOf(union);
+                                });
+                    }
+                    log.debug("Loaded {} content permission rules", loaded.size());
+                    return Map.copyOf(loaded);
+                });
+    }
+}
@@ -0,0 +1,144 @@
+package com.apiforge.content.service;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.model.ContentAction;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.model.FieldSchema;
+import com.apiforge.content.model.FieldType;
+import com.apiforge.content.query.PopulateSpec;
+import com.apiforge.content.repository.DynamicContentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Replaces relation and media ids in content rows with the referenced entries. Work is done level by
+ * level: all ids pointing at one content type are collected across every row and field first and fetched
+ * with a single {@code id = ANY(?)} query, and all media ids of a level go to media-service in one call,
+ * so the number of round trips depends on the populate spec, not on the number of rows.
+ */
+@Service
+public class ContentPopulator {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentPopulator.class);
+
+    @Autowired
+    private DynamicContentRepository dynamicContentRepository;
+
+    @Autowired
+    private ContentTypeSchemaCache contentTypeSchemaCache;
+
+    @Autowired
+    private MediaClientService mediaClientService;
+
+    @Autowired
+    private ContentAccessGuard contentAccessGuard;
+
+    public void populate(ContentTypeSchema schema, List<Map<String, Object>> rows, PopulateSpec spec) {
+        if (spec.isEmpty() || rows.isEmpty()) {
+            return;
+        }
+
+        List<FieldSchema> mediaFields = new ArrayList<>();
+        Map<String, List<FieldSchema>> relationFieldsByTarget = new LinkedHashMap<>();
+        for (FieldSchema field : spec.select(schema)) {
+            if (field.getType() == FieldType.MEDIA) {
+                mediaFields.add(field);
+            } else {
+                relationFieldsByTarget.computeIfAbsent(field.getTargetContentType(), key -> new ArrayList<>()).add(field);
+            }
+        }
+
+        // Remote lookups (media metadata, target schemas) start first and run while the relation queries
+        // below execute, so a level costs the slowest call instead of the sum of all of them.
+        // Media metadata only decorates the entry, so when media-service is unavailable the stored ids are
+        // returned as they are (the future completes with null) rather than failing the whole read.
+        CompletableFuture<Map<Long, Map<String, Object>>> media = mediaFields.isEmpty()
+                ? CompletableFuture.completedFuture(Map.of())
+                : mediaClientService.fetchMediaByIds(collectIds(rows, mediaFields))
+                        .onErrorResume(CustomExceptions.ServiceUnavailableException.class, ex -> {
+                            log.warn("Returning media ids unpopulated: {}", ex.getMessage());
+                            return Mono.empty();
+                        })
+                        .toFuture();
+        Map<String, CompletableFuture<ContentTypeSchema>> targetSchemas = new LinkedHashMap<>();
+        relationFieldsByTarget.keySet().forEach(target -> {
+            // Populating embeds the referenced entries, so it needs the same READ permission as fetching them.
+            contentAccessGuard.require(target, ContentAction.READ);
+            targetSchemas.put(target, contentTypeSchemaCache.getSchemaAsync(target).toFuture());
+        });
+
+        relationFieldsByTarget.forEach((target, fields) -> {
+            ContentTypeSchema targetSchema = await(targetSchemas.get(target));
+            Set<Long> ids = collectIds(rows, fields);
+            if (ids.isEmpty()) {
+                return;
+            }
+            List<Map<String, Object>> targetRows =
+                    dynamicContentRepository.findByIds(targetSchema.getTableName(), new ArrayList<>(ids));
+
+            PopulateSpec childSpec = PopulateSpec.NONE;
+            for (FieldSchema field : fields) {
+                childSpec = childSpec.merge(spec.child(field.getFieldName()));
+            }
+            populate(targetSchema, targetRows, childSpec);
+
+            Map<Long, Map<String, Object>> byId = new HashMap<>();
+            for (Map<String, Object> targetRow : targetRows) {
+                byId.put(((Number) targetRow.get("id")).longValue(), targetRow);
+            }
+            replace(rows, fields, byId);
+        });
+
+        Map<Long, Map<String, Object>> mediaEntries = await(media);
+        if (!mediaFields.isEmpty() && mediaEntries != null) {
+            replace(rows, mediaFields, mediaEntries);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    private static Set<Long> collectIds(List<Map<String, Object>> rows, List<FieldSchema> fields) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Map<String, Object> row : rows) {
+            for (FieldSchema field : fields) {
+                if (row.get(field.getFieldName()) instanceof Number id) {
+                    ids.add(id.longValue());
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Swaps each id for its entry; dangling references become null, as there is nothing to return for them.
+     */
+    private static void replace(List<Map<String, Object>> rows, List<FieldSchema> fields,
+                                Map<Long, Map<String, Object>> entries) {
+        for (Map<String, Object> row : rows) {
+            for (FieldSchema field : fields) {
+                if (row.get(field.getFieldName()) instanceof Number id) {
+                    row.put(field.getFieldName(), entries.get(id.longValue()));
+                }
+            }
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package com.apiforge.content.service;
 
+import com.apiforge.content.dto.ContentQueryRequestDto;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.query.ContentCursor;
+import com.apiforge.content.query.ContentPage;
+import com.apiforge.content.query.ContentQuery;
+import com.apiforge.content.query.ContentVersion;
+import com.apiforge.content.query.FieldProjection;
+import com.apiforge.content.query.FilterCompiler;
+import com.apiforge.content.query.FilterPredicate;
+import com.apiforge.content.query.PopulateSpec;
+import com.apiforge.content.query.SortSpec;
 import com.apiforge.content.repository.DynamicContentRepository;
 import com.apiforge.common.exception.CustomExceptions;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -16,34 +29,75 @@ public class ContentService {
     private DynamicContentRepository dynamicContentRepository;
 
     @Autowired
-    private ContentTypeClientService contentTypeClientService;
+    private ContentTypeSchemaCache contentTypeSchemaCache;
+
+    @Autowired
+    private ContentPopulator contentPopulator;
+
+    @Value("${apiforge.content.populate.max-depth:3}")
+    private int maxPopulateDepth;
+
+    @Value("${apiforge.content.pagination.default-limit:100}")
+    private int defaultLimit;
+
+    @Value("${apiforge.content.pagination.max-limit:1000}")
+    private int maxLimit;
+
+    @Value("${apiforge.content.conditional-get.enabled:true}")
+    private boolean conditionalGetEnabled;
 
     public Map<String, Object> createContent(String apiId, Map<String, Object> contentData) {
-        ensureContentTypeExists(apiId);
+        ContentTypeSchema schema = resolveSchema(apiId);
+        return dynamicContentRepository.create(schema.getTableName(), ContentValues.forWrite(schema, contentData, true));
+    }
 
-        String tableName = "ct_" + apiId;
-        return dynamicContentRepository.create(tableName, contentData);
+    public ContentPage getContentPage(String apiId, String fields, String sort, String cursor, Integer limit,
+                                      String populate, Integer populateDepth) {
+        ContentTypeSchema schema = resolveSchema(apiId);
+        ContentQuery query = buildQuery(schema, null, fields, sort, cursor, limit);
+        PopulateSpec populateSpec = parsePopulate(populate, populateDepth);
+        List<Map<String, Object>> rows = dynamicContentRepository.findPage(schema.getTableName(), query);
+        return toPage(schema, rows, query, populateSpec);
     }
 
-    public List<Map<String, Object>> getAllContent(String apiId) {
-        ensureContentTypeExists(apiId);
-        String tableName = "ct_" + apiId;
-        return dynamicContentRepository.findAll(tableName);
+    public ContentPage queryContent(String apiId, ContentQueryRequestDto request) {
+        ContentTypeSchema schema = resolveSchema(apiId);
+        String fields = request.getFields() != null ? String.join(",", request.getFields()) : null;
+        ContentQuery query = buildQuery(schema, FilterCompiler.compile(schema, request.getFilter()),
+                fields, request.getSort(), request.getCursor(), request.getLimit());
+        PopulateSpec populateSpec = parsePopulate(request.getPopulate(), request.getPopulateDepth());
+        List<Map<String, Object>> rows = dynamicContentRepository.findPage(schema.getTableName(), query);
+        return toPage(schema, rows, query, populateSpec);
     }
 
+    /**
+     * Unpaginated variant kept for existing clients; the map is interpreted with the same DSL as
+     * {@link #queryContent}, so plain {@code field: value} entries keep their equality meaning.
+     */
     public List<Map<String, Object>> searchContent(String apiId, Map<String, Object> filters) {
-        ensureContentTypeExists(apiId);
-        String tableName = "ct_" + apiId;
-        if (filters == null || filters.isEmpty()) {
+        ContentTypeSchema schema = resolveSchema(apiId);
+        String tableName = schema.getTableName();
+        FilterPredicate filter = FilterCompiler.compile(schema, filters);
+        if (filter == null) {
             return dynamicContentRepository.findAll(tableName);
         }
-        return dynamicContentRepository.findWithFilters(tableName, filters);
+        return dynamicContentRepository.findWhere(tableName, filter);
     }
 
     public Map<String, Object> getContentById(String apiId, Long id) {
-        ensureContentTypeExists(apiId);
-        String tableName = "ct_" + apiId;
-        Map<String, Object> content = dynamicContentRepository.findById(tableName, id);
+        return getContentById(apiId, id, null, null);
+    }
+
+    public Map<String, Object> getContentById(String apiId, Long id, String populate, Integer populateDepth) {
+        return populateContent(apiId, findContentById(apiId, id), populate, populateDepth);
+    }
+
+    /**
+     * The stored row, without relations populated.
+     */
+    public Map<String, Object> findContentById(String apiId, Long id) {
+        ContentTypeSchema schema = resolveSchema(apiId);
+        Map<String, Object> content = dynamicContentRepository.findById(schema.getTableName(), id);
         if (content == null) {
             throw new CustomExceptions.ResourceNotFoundException(
                     "Content not found for apiId " + apiId + " and id " + id
@@ -52,26 +106,92 @@ public class ContentService {
         return content;
     }
 
+    public Map<String, Object> populateContent(String apiId, Map<String, Object> content, String populate,
+                                               Integer populateDepth) {
+        ContentTypeSchema schema = resolveSchema(apiId);
+        contentPopulator.populate(schema, List.of(content), parsePopulate(populate, populateDepth));
+        return content;
+    }
+
+    /**
+     * Validators for an entry as returned by {@link #findContentById}, or null when the response cannot be
+     * revalidated from the row alone: populated entries embed other rows that change independently.
+     */
+    public ContentVersion getContentVersion(String apiId, Map<String, Object> content, String populate) {
+        if (!supportsConditionalGet(populate)) {
+            return null;
+        }
+        return ContentVersion.ofEntry(resolveSchema(apiId), content);
+    }
+
+    /**
+     * Validators for every page of the list endpoint, from a row count and row version digest probe; null
+     * under the same conditions as {@link #getContentVersion}. Taken before the page is read, so a write in
+     * between only makes the next revalidation miss.
+     */
+    public ContentVersion getCollectionVersion(String apiId, String populate) {
+        if (!supportsConditionalGet(populate)) {
+            return null;
+        }
+        ContentTypeSchema schema = resolveSchema(apiId);
+        Map<String, Object> version = dynamicContentRepository.findVersion(schema.getTableName());
+        return ContentVersion.ofCollection(schema, version.get("row_digest"),
+                ((Number) version.get("row_count")).longValue());
+    }
+
     @Transactional
     public Map<String, Object> updateContent(String apiId, Long id, Map<String, Object> contentData) {
-        getContentById(apiId, id);
-        
-        String tableName = "ct_" + apiId;
-        return dynamicContentRepository.update(tableName, id, contentData);
+        ContentTypeSchema schema = resolveSchema(apiId);
+        Map<String, Object> values = ContentValues.forWrite(schema, contentData, false);
+        findContentById(apiId, id);
+        return dynamicContentRepository.update(schema.getTableName(), id, values);
     }
 
     @Transactional
     public void deleteContent(String apiId, Long id) {
-        getContentById(apiId, id);
+        findContentById(apiId, id);
+        dynamicContentRepository.delete(resolveSchema(apiId).getTableName(), id);
+    }
 
-        String tableName = "ct_" + apiId;
-        dynamicContentRepository.delete(tableName, id);
+    private ContentQuery buildQuery(ContentTypeSchema schema, FilterPredicate filter, String fields, String sort,
+                                    String cursor, Integer limit) {
+        SortSpec sortSpec = SortSpec.parse(sort, schema);
+        ContentCursor contentCursor = cursor != null && !cursor.isBlank()
+                ? ContentCursor.decode(cursor, sortSpec)
+                : null;
+        return new ContentQuery(FieldProjection.parse(schema, fields), filter, sortSpec, contentCursor,
+                resolveLimit(limit));
     }
 
-    private void ensureContentTypeExists(String apiId) {
-        Map<String, Object> contentType = contentTypeClientService.getContentTypeByApiId(apiId);
-        if (contentType == null) {
-            throw new CustomExceptions.ResourceNotFoundException("Content type not found: " + apiId);
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return defaultLimit;
         }
+        if (limit < 1) {
+            throw new CustomExceptions.BadRequestException("limit must be at least 1");
+        }
+        return Math.min(limit, maxLimit);
+    }
+
+    private boolean supportsConditionalGet(String populate) {
+        return conditionalGetEnabled && (populate == null || populate.isBlank());
+    }
+
+    private PopulateSpec parsePopulate(String populate, Integer populateDepth) {
+        return PopulateSpec.parse(populate, populateDepth, maxPopulateDepth);
+    }
+
+    private ContentPage toPage(ContentTypeSchema schema, List<Map<String, Object>> rows, ContentQuery query,
+                               PopulateSpec populateSpec) {
+        int limit = query.getLimit();
+        List<Map<String, Object>> items = rows.size() <= limit ? rows : new ArrayList<>(rows.subList(0, limit));
+        // The cursor needs the raw sort value, so encode it before a relation sort key is replaced by an object.
+        String nextCursor = rows.size() > limit ? ContentCursor.encode(query.getSort(), items.get(limit - 1)) : null;
+        contentPopulator.populate(schema, items, populateSpec);
+        return new ContentPage(items, nextCursor, limit, query.getSort().toParam());
+    }
+
+    private ContentTypeSchema resolveSchema(String apiId) {
+        return contentTypeSchemaCache.getSchema(apiId);
     }
 }
@@ -1,10 +1,19 @@
 package com.apiforge.content.service;
 
 import com.apiforge.common.dto.ApiResponse;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.model.FieldSchema;
+import com.apiforge.content.model.FieldType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 @Service
 public class ContentTypeClientService {
@@ -13,22 +22,72 @@ public class ContentTypeClientService {
     private String contentTypeServiceUrl;
 
     private final WebClient webClient;
+    private final Function<Mono<ApiResponse>, Mono<ApiResponse>> resilience;
 
-    public ContentTypeClientService(WebClient webClient) {
+    public ContentTypeClientService(WebClient webClient, RemoteCallPolicy remoteCallPolicy) {
         this.webClient = webClient;
+        this.resilience = remoteCallPolicy.forService("content-type-service");
     }
 
     public Map<String, Object> getContentTypeByApiId(String apiId) {
         ApiResponse response = webClient.get()
-                .uri(contentTypeServiceUrl + "/api/content-types/api-id/" + apiId)
+                .uri(contentTypeServiceUrl + "/api/content-types/api-id/{apiId}", apiId)
                 .retrieve()
                 .bodyToMono(ApiResponse.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.empty())
+                .transform(resilience)
+                .contextCapture()
                 .block();
 
         if (response != null && response.isSuccess()) {
              return (Map<String, Object>) response.getData();
         }
-        
+
         return null;
     }
+
+    public ContentTypeSchema getSchemaByApiId(String apiId) {
+        return fetchSchema(apiId).block();
+    }
+
+    /**
+     * Asynchronous schema lookup; completes empty when the content type does not exist. Request threads
+     * still wait for the result through {@link ContentTypeSchemaCache#getSchema}; the Mono lets concurrent
+     * misses share one call and lets the populator overlap lookups with other work. The calling thread's observation is captured
+     * at subscription, so the call joins the caller's trace even when subscribed through a cache future.
+     * Fails with {@code ServiceUnavailableException} when content-type-service is slow, failing or
+     * shedding load (see {@link RemoteCallPolicy}).
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<ContentTypeSchema> fetchSchema(String apiId) {
+        return webClient.get()
+                .uri(contentTypeServiceUrl + "/api/content-types/api-id/{apiId}", apiId)
+                .retrieve()
+                .bodyToMono(ApiResponse.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.empty())
+                .transform(resilience)
+                .filter(response -> response.isSuccess() && response.getData() != null)
+                .map(response -> toSchema(apiId, (Map<String, Object>) response.getData()))
+                .contextCapture();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ContentTypeSchema toSchema(String apiId, Map<String, Object> contentType) {
+        List<FieldSchema> fields = new ArrayList<>();
+        Object rawFields = contentType.get("fields");
+        if (rawFields instanceof List<?> list) {
+            for (Object item : list) {
+                Map<String, Object> field = (Map<String, Object>) item;
+                fields.add(new FieldSchema(
+                        (String) field.get("fieldName"),
+                        FieldType.valueOf((String) field.get("type")),
+                        Boolean.TRUE.equals(field.get("required")),
+                        Boolean.TRUE.equals(field.get("unique")),
+                        (String) field.get("targetContentType"),
+                        (String) field.get("relationType")
+                ));
+            }
+        }
+        return new ContentTypeSchema(apiId, fields);
+    }
 }
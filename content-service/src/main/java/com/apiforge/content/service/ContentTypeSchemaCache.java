@@ -0,0 +1,96 @@
+package com.apiforge.content.service;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-local cache of content type schemas. Entries are refreshed after a TTL as a safety net,
+ * but content-type-service pushes invalidations on every schema change, so hot content types
+ * are normally served without a remote call.
+ *
+ * <p>A refresh happens in the background while the cached schema keeps being served. If content-type-service
+ * is unavailable, the refresh fails and the stale schema stays in use for up to {@code max-stale} more.
+ *
+ * <p>Concurrent misses for the same content type share one in-flight call to content-type-service.
+ * {@link #getSchema} waits for it on the calling thread; {@link #getSchemaAsync} lets callers start the
+ * lookup and do other work before waiting.
+ */
+@Service
+public class ContentTypeSchemaCache {
+
+    private final ContentTypeClientService contentTypeClientService;
+    private final AsyncLoadingCache<String, ContentTypeSchema> cache;
+    private final LongAdder invalidations = new LongAdder();
+
+    public ContentTypeSchemaCache(
+            ContentTypeClientService contentTypeClientService,
+            @Value("${apiforge.schema-cache.maximum-size:500}") long maximumSize,
+            @Value("${apiforge.schema-cache.ttl:10m}") Duration ttl,
+            @Value("${apiforge.schema-cache.max-stale:1h}") Duration maxStale) {
+        this.contentTypeClientService = contentTypeClientService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(ttl)
+                .expireAfterWrite(ttl.plus(maxStale))
+                .recordStats()
+                .buildAsync((apiId, executor) -> contentTypeClientService.fetchSchema(apiId).toFuture());
+    }
+
+    public ContentTypeSchema getSchema(String apiId) {
+        ContentTypeSchema schema;
+        try {
+            schema = cache.get(apiId).join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+        if (schema == null) {
+            throw new CustomExceptions.ResourceNotFoundException("Content type not found: " + apiId);
+        }
+        return schema;
+    }
+
+    /**
+     * Errors with {@code ResourceNotFoundException} when the content type does not exist.
+     */
+    public Mono<ContentTypeSchema> getSchemaAsync(String apiId) {
+        return Mono.fromFuture(cache.get(apiId), true)
+                .switchIfEmpty(Mono.error(() ->
+                        new CustomExceptions.ResourceNotFoundException("Content type not found: " + apiId)));
+    }
+
+    public void invalidate(String apiId) {
+        invalidations.increment();
+        cache.synchronous().invalidate(apiId);
+    }
+
+    public void invalidateAll() {
+        invalidations.increment();
+        cache.synchronous().invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.synchronous().stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.synchronous().estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        result.put("invalidations", invalidations.sum());
+        result.put("loadFailures", stats.loadFailureCount());
+        result.put("averageLoadPenaltyMs", stats.averageLoadPenalty() / 1_000_000.0);
+        return result;
+    }
+}
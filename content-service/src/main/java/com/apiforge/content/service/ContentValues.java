@@ -0,0 +1,49 @@
+package com.apiforge.content.service;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.model.FieldSchema;
+import com.apiforge.content.query.FieldValueCoercer;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Checks the fields of a create or update payload against the schema before any SQL is built, since the
+ * field names become column names in the statement and keys in {@code SqlTemplateCache}.
+ */
+final class ContentValues {
+
+    private ContentValues() {
+    }
+
+    /**
+     * @param create whether required fields must be present
+     * @return the values coerced to their column types, sorted by field name so that payloads with the same
+     *         fields produce identical SQL
+     */
+    static TreeMap<String, Object> forWrite(ContentTypeSchema schema, Map<String, Object> data, boolean create) {
+        TreeMap<String, Object> values = new TreeMap<>();
+        if (data != null) {
+            data.forEach((name, raw) -> {
+                FieldSchema field = schema.getField(name);
+                if (field == null) {
+                    FieldSchema column = schema.getColumn(name);
+                    throw new CustomExceptions.BadRequestException(column != null && column.isSystem()
+                            ? "Field '" + name + "' is managed by the system and cannot be written"
+                            : "Unknown field '" + name + "' for content type '" + schema.getApiId() + "'");
+                }
+                values.put(name, FieldValueCoercer.coerce(field, raw));
+            });
+        }
+        if (create) {
+            for (FieldSchema field : schema.getFields()) {
+                if (field.isRequired() && values.get(field.getFieldName()) == null) {
+                    throw new CustomExceptions.BadRequestException(
+                            "Field '" + field.getFieldName() + "' is required");
+                }
+            }
+        }
+        return values;
+    }
+}
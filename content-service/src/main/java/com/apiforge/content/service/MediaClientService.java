@@ -0,0 +1,95 @@
+package com.apiforge.content.service;
+
+import com.apiforge.common.dto.ApiResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class MediaClientService {
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Map<String, Object>>>> MEDIA_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+
+    @Value("${media-service.url:http://localhost:7084}")
+    private String mediaServiceUrl;
+
+    /** Ids per request; keeps the query string well under the servlet container's request line limit. */
+    @Value("${apiforge.content.populate.media-batch-size:200}")
+    private int batchSize;
+
+    /** Batches in flight at once for one lookup; each batch counts against the media-service bulkhead. */
+    private static final int BATCH_CONCURRENCY = 4;
+
+    private final WebClient webClient;
+    private final Function<Mono<ApiResponse<List<Map<String, Object>>>>, Mono<ApiResponse<List<Map<String, Object>>>>> resilience;
+
+    public MediaClientService(WebClient webClient, RemoteCallPolicy remoteCallPolicy) {
+        this.webClient = webClient;
+        this.resilience = remoteCallPolicy.forService("media-service");
+    }
+
+    /**
+     * Fetches metadata for all ids, {@code media-batch-size} ids per request.
+     *
+     * @return media entries keyed by id; ids that do not exist are absent
+     */
+    public Map<Long, Map<String, Object>> getMediaByIds(Collection<Long> ids) {
+        return fetchMediaByIds(ids).block();
+    }
+
+    /**
+     * Asynchronous variant of {@link #getMediaByIds}, so callers can overlap the call with other work before
+     * waiting for it.
+     */
+    public Mono<Map<Long, Map<String, Object>>> fetchMediaByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        List<List<Long>> batches = new ArrayList<>();
+        List<Long> all = List.copyOf(ids);
+        int size = Math.max(1, batchSize);
+        for (int from = 0; from < all.size(); from += size) {
+            batches.add(all.subList(from, Math.min(all.size(), from + size)));
+        }
+        return Flux.fromIterable(batches)
+                .flatMap(this::fetchBatch, BATCH_CONCURRENCY)
+                .reduceWith(HashMap<Long, Map<String, Object>>::new, (merged, batch) -> {
+                    merged.putAll(batch);
+                    return merged;
+                })
+                .<Map<Long, Map<String, Object>>>map(merged -> merged)
+                .contextCapture();
+    }
+
+    private Mono<Map<Long, Map<String, Object>>> fetchBatch(List<Long> ids) {
+        String idList = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return webClient.get()
+                .uri(mediaServiceUrl + "/api/upload?ids={ids}", idList)
+                .retrieve()
+                .bodyToMono(MEDIA_LIST)
+                .transform(resilience)
+                .map(response -> {
+                    Map<Long, Map<String, Object>> byId = new HashMap<>();
+                    if (response.isSuccess() && response.getData() != null) {
+                        for (Map<String, Object> media : response.getData()) {
+                            byId.put(((Number) media.get("id")).longValue(), media);
+                        }
+                    }
+                    return byId;
+                })
+                .defaultIfEmpty(Map.of());
+    }
+}
@@ -0,0 +1,69 @@
+package com.apiforge.content.service;
+
+import com.apiforge.common.exception.CustomExceptions;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Wraps calls to another service in that service's Resilience4j instances, configured under
+ * {@code resilience4j.*.instances.<service>} in application.yml:
+ * <ul>
+ *   <li>a time limiter, so a slow dependency fails the call instead of holding the request;</li>
+ *   <li>a circuit breaker, which fails calls immediately while the dependency keeps failing;</li>
+ *   <li>a bulkhead, which caps concurrent calls so one dependency cannot occupy every request.</li>
+ * </ul>
+ * Rejections, timeouts, connection failures and 5xx responses surface as
+ * {@link CustomExceptions.ServiceUnavailableException} (HTTP 503). Apply the policy after mapping expected
+ * responses such as 404, so they do not count as failures.
+ */
+@Component
+public class RemoteCallPolicy {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+
+    public RemoteCallPolicy(CircuitBreakerRegistry circuitBreakerRegistry,
+                            BulkheadRegistry bulkheadRegistry,
+                            TimeLimiterRegistry timeLimiterRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+    }
+
+    public <T> Function<Mono<T>, Mono<T>> forService(String service) {
+        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(service);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(service);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(service);
+        return call -> call
+                .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(RemoteCallPolicy::isUnavailable,
+                        ex -> new CustomExceptions.ServiceUnavailableException(service + " is unavailable"));
+    }
+
+    private static boolean isUnavailable(Throwable ex) {
+        return ex instanceof CallNotPermittedException
+                || ex instanceof BulkheadFullException
+                || ex instanceof TimeoutException
+                || ex instanceof WebClientRequestException
+                || (ex instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError());
+    }
+}
@@ -0,0 +1,73 @@
+package com.apiforge.content.query;
+
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.model.FieldSchema;
+import com.apiforge.content.model.FieldType;
+import com.apiforge.content.repository.ContentSqlBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentVersionTest {
+
+    private final ContentTypeSchema schema = new ContentTypeSchema("article", List.of(
+            new FieldSchema("title", FieldType.SHORT_TEXT, false, false, null, null)));
+
+    /**
+     * T1 starts, T2 starts, T2 updates row 2 and commits, then T1 updates row 1 and commits. T1's
+     * {@code updated_at} is older than T2's, so neither {@code max(updated_at)} nor {@code count(*)} moves on
+     * T1's commit. T1's commit does give row 1 a new {@code xmin}, which the digest covers.
+     */
+    @Test
+    void changesWhenAnEarlierStartedWriterCommitsLast() {
+        long xminBefore = 700;
+        long xminT1 = 701;
+        long xminT2 = 702;
+        ContentVersion afterT2 = ContentVersion.ofCollection(schema, digest(1, xminBefore, 2, xminT2), 2);
+        ContentVersion afterT1 = ContentVersion.ofCollection(schema, digest(1, xminT1, 2, xminT2), 2);
+
+        assertNotEquals(afterT2.getETag(), afterT1.getETag());
+        assertNull(afterT1.getLastModified());
+    }
+
+    @Test
+    void changesWhenADeleteAndAnInsertKeepTheCount() {
+        ContentVersion before = ContentVersion.ofCollection(schema, digest(1, 700, 2, 700), 2);
+        ContentVersion after = ContentVersion.ofCollection(schema, digest(1, 700, 3, 705), 2);
+
+        assertNotEquals(before.getETag(), after.getETag());
+    }
+
+    @Test
+    void isStableForTheSameRowVersions() {
+        assertEquals(ContentVersion.ofCollection(schema, digest(1, 700), 1).getETag(),
+                ContentVersion.ofCollection(schema, digest(1, 700), 1).getETag());
+        assertTrue(ContentVersion.ofCollection(schema, BigDecimal.ZERO, 0).getETag().startsWith("W/\""));
+    }
+
+    @Test
+    void probesRowVersionsRatherThanTimestamps() {
+        String sql = new ContentSqlBuilder().selectVersion("ct_article");
+
+        assertTrue(sql.contains("xmin"));
+        assertFalse(sql.contains("updated_at"));
+    }
+
+    /**
+     * Stands in for {@code sum(hashtextextended(id || ':' || xmin, 0))} over (id, xmin) pairs.
+     */
+    private static BigDecimal digest(long... idXminPairs) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < idXminPairs.length; i += 2) {
+            sum = sum.add(BigDecimal.valueOf((idXminPairs[i] + ":" + idXminPairs[i + 1]).hashCode() * 0x9E3779B97F4A7C15L));
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,129 @@
+package com.apiforge.content.query;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.model.FieldSchema;
+import com.apiforge.content.model.FieldType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FilterCompilerTest {
+
+    private final ContentTypeSchema schema = new ContentTypeSchema("article", List.of(
+            new FieldSchema("title", FieldType.SHORT_TEXT, false, false, null, null),
+            new FieldSchema("body", FieldType.RICH_TEXT, false, false, null, null),
+            new FieldSchema("views", FieldType.NUMBER, false, false, null, null),
+            new FieldSchema("featured", FieldType.BOOLEAN, false, false, null, null),
+            new FieldSchema("published_at", FieldType.DATETIME, false, false, null, null),
+            new FieldSchema("author", FieldType.RELATION, false, false, "author", "manyToOne")));
+
+    @Test
+    void translatesEachOperator() {
+        assertSql("title = ?", List.of("Intro"), Map.of("title", "Intro"));
+        assertSql("title IS NULL", List.of(), mapOf("title", null));
+        assertSql("title IS DISTINCT FROM ?", List.of("Intro"), Map.of("title", Map.of("ne", "Intro")));
+        assertSql("title IS NOT NULL", List.of(), Map.of("title", mapOf("ne", null)));
+        assertSql("views > ?", List.of(new BigDecimal("10")), Map.of("views", Map.of("gt", 10)));
+        assertSql("views <= ?", List.of(new BigDecimal("2.5")), Map.of("views", Map.of("lte", "2.5")));
+        assertSql("author IN (?, ?)", List.of(3L, 4L), Map.of("author", Map.of("in", List.of(3, "4"))));
+        assertSql("title LIKE ?", List.of("%50\\%\\_off%"), Map.of("title", Map.of("contains", "50%_off")));
+        assertSql("title LIKE ?", List.of("Intro%"), Map.of("title", Map.of("startsWith", "Intro")));
+        assertSql("featured IS NOT NULL", List.of(), Map.of("featured", Map.of("isNull", false)));
+        assertSql("published_at >= ?", List.of(Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0))),
+                Map.of("published_at", Map.of("gte", "2024-01-01T00:00:00")));
+        assertSql("id = ?", List.of(7L), Map.of("id", 7));
+    }
+
+    @Test
+    void bindsParametersInTheOrderOfTheirPlaceholders() {
+        Map<String, Object> filter = new LinkedHashMap<>();
+        filter.put("views", Map.of("lt", 100, "gte", 10));
+        filter.put("or", List.of(Map.of("author", 3), Map.of("title", Map.of("startsWith", "A"))));
+        filter.put("featured", true);
+
+        FilterPredicate predicate = FilterCompiler.compile(schema, filter);
+
+        assertEquals("(featured = ? AND (author = ? OR title LIKE ?) AND (views >= ? AND views < ?))",
+                predicate.getSql());
+        assertEquals(List.of(true, 3L, "A%", new BigDecimal("10"), new BigDecimal("100")), predicate.getParams());
+    }
+
+    @Test
+    void compilesEquivalentFiltersToTheSameSql() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("title", "a");
+        first.put("views", 1);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("views", 2);
+        second.put("title", "b");
+
+        assertEquals(FilterCompiler.compile(schema, first).getSql(), FilterCompiler.compile(schema, second).getSql());
+        assertNull(FilterCompiler.compile(schema, Map.of()));
+    }
+
+    @Test
+    void rejectsUnknownFieldsAndOperators() {
+        assertBadRequest("Unknown field 'missing' for content type 'article'", Map.of("missing", 1));
+        assertBadRequest("Unsupported filter operator 'like' on field 'title'", Map.of("title", Map.of("like", "x")));
+        assertBadRequest("'or' expects a non-empty array of filters", Map.of("or", List.of()));
+    }
+
+    @Test
+    void rejectsInvalidValues() {
+        assertBadRequest(null, Map.of("views", "many"));
+        assertBadRequest(null, Map.of("published_at", Map.of("gt", "yesterday")));
+        assertBadRequest("Field 'views' expects a single value", Map.of("views", Map.of("gt", List.of(1))));
+        assertBadRequest("'in' expects a non-empty array", Map.of("views", Map.of("in", 1)));
+        assertBadRequest("'isNull' expects true or false", Map.of("title", Map.of("isNull", "yes")));
+        assertBadRequest("'contains' is only supported on text fields, not 'views'", Map.of("views", Map.of("contains", "1")));
+        assertBadRequest("'startsWith' expects a non-empty string", Map.of("title", Map.of("startsWith", "")));
+        assertBadRequest("'gt' is not supported on field 'body'", Map.of("body", Map.of("gt", "a")));
+        assertBadRequest("'in' accepts at most 1000 values",
+                Map.of("author", Map.of("in", Arrays.asList(new Object[FilterCompiler.MAX_IN_VALUES + 1]))));
+    }
+
+    @Test
+    void rejectsFiltersNestedTooDeeply() {
+        Map<String, Object> filter = Map.of("title", "x");
+        for (int depth = 0; depth <= FilterCompiler.MAX_DEPTH; depth++) {
+            filter = Map.of("and", List.of(filter));
+        }
+        Map<String, Object> tooDeep = filter;
+
+        CustomExceptions.BadRequestException ex = assertThrows(CustomExceptions.BadRequestException.class,
+                () -> FilterCompiler.compile(schema, tooDeep));
+        assertTrue(ex.getMessage().contains("nested deeper"));
+    }
+
+    private void assertSql(String sql, List<Object> params, Map<String, Object> filter) {
+        FilterPredicate predicate = FilterCompiler.compile(schema, filter);
+        assertEquals(sql, predicate.getSql());
+        assertEquals(params, predicate.getParams());
+    }
+
+    private void assertBadRequest(String message, Map<String, Object> filter) {
+        CustomExceptions.BadRequestException ex = assertThrows(CustomExceptions.BadRequestException.class,
+                () -> FilterCompiler.compile(schema, filter));
+        if (message != null) {
+            assertEquals(message, ex.getMessage());
+        }
+    }
+
+    private static Map<String, Object> mapOf(String key, Object value) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put(key, value);
+        return map;
+    }
+}
@@ -0,0 +1,49 @@
+package com.apiforge.content.repository;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DynamicContentRepositoryTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final DynamicContentRepository repository = new DynamicContentRepository();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(repository, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(repository, "contentSqlBuilder", new ContentSqlBuilder());
+        ReflectionTestUtils.setField(repository, "sqlTemplateCache", new SqlTemplateCache(100));
+        ReflectionTestUtils.setField(repository, "repositoryMetrics", new RepositoryMetrics(ObservationRegistry.NOOP));
+    }
+
+    @Test
+    void insertBatchWritesAllocatedIdsIntoTheirOwnRows() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(3))).thenReturn(List.of(17L, 15L, 16L));
+
+        List<Long> ids = repository.insertBatch("ct_article", List.of("title", "views"), List.of(
+                new Object[]{"first", 1},
+                new Object[]{"second", 2},
+                new Object[]{"third", 3}));
+
+        assertEquals(List.of(17L, 15L, 16L), ids);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), params.capture());
+        assertEquals("INSERT INTO ct_article (id, title, views) VALUES (?, ?, ?), (?, ?, ?), (?, ?, ?)", sql.getValue());
+        assertEquals(List.of(17L, "first", 1, 15L, "second", 2, 16L, "third", 3), Arrays.asList(params.getValue()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.apiforge.content.service;
+
+import com.apiforge.content.dto.BulkOperationDto;
+import com.apiforge.content.dto.BulkOperationResultDto;
+import com.apiforge.content.dto.BulkRequestDto;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.model.FieldSchema;
+import com.apiforge.content.model.FieldType;
+import com.apiforge.content.repository.DynamicContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContentBulkServiceTest {
+
+    private final DynamicContentRepository repository = mock(DynamicContentRepository.class);
+    private final ContentTypeSchemaCache schemaCache = mock(ContentTypeSchemaCache.class);
+    private final ContentBulkService service = new ContentBulkService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "dynamicContentRepository", repository);
+        ReflectionTestUtils.setField(service, "contentTypeSchemaCache", schemaCache);
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        ReflectionTestUtils.setField(service, "maxOperations", 100);
+        when(schemaCache.getSchema("article")).thenReturn(new ContentTypeSchema("article", List.of(
+                new FieldSchema("title", FieldType.SHORT_TEXT, false, false, null, null))));
+    }
+
+    @Test
+    void mapsEachResultToItsOwnOperationAcrossMixedBatches() {
+        when(repository.insertBatch(eq("ct_article"), eq(List.of("title")), anyList()))
+                .thenReturn(List.of(41L, 42L), List.of(43L));
+        when(repository.updateBatch(eq("ct_article"), eq(List.of("title")), anyList())).thenReturn(new int[]{1, 0});
+        when(repository.deleteBatch("ct_article", List.of(7L, 8L))).thenReturn(Set.of(8L));
+
+        List<BulkOperationResultDto> results = service.execute("article", new BulkRequestDto(List.of(
+                op("create", null, "a"),
+                op("create", null, "b"),
+                op("update", 3L, "c"),
+                op("update", 4L, "d"),
+                op("delete", 7L, null),
+                op("delete", 8L, null),
+                op("create", null, "e"))));
+
+        assertEquals(List.of(
+                result(0, "create", 41L, "CREATED"),
+                result(1, "create", 42L, "CREATED"),
+                result(2, "update", 3L, "UPDATED"),
+                result(3, "update", 4L, "NOT_FOUND"),
+                result(4, "delete", 7L, "NOT_FOUND"),
+                result(5, "delete", 8L, "DELETED"),
+                result(6, "create", 43L, "CREATED")), results);
+        verify(repository).updateBatch(eq("ct_article"), eq(List.of("title")), anyList());
+    }
+
+    private static BulkOperationDto op(String op, Long id, String title) {
+        return new BulkOperationDto(op, id, title != null ? Map.of("title", title) : null);
+    }
+
+    private static BulkOperationResultDto result(int index, String op, Long id, String status) {
+        return new BulkOperationResultDto(index, op, id, status);
+    }
+}
@@ -0,0 +1,74 @@
+package com.apiforge.content.service;
+
+import com.apiforge.common.exception.CustomExceptions;
+import com.apiforge.content.model.ContentTypeSchema;
+import com.apiforge.content.model.FieldSchema;
+import com.apiforge.content.model.FieldType;
+import com.apiforge.content.repository.DynamicContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContentServiceTest {
+
+    private final DynamicContentRepository repository = mock(DynamicContentRepository.class);
+    private final ContentTypeSchemaCache schemaCache = mock(ContentTypeSchemaCache.class);
+    private final ContentService service = new ContentService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "dynamicContentRepository", repository);
+        ReflectionTestUtils.setField(service, "contentTypeSchemaCache", schemaCache);
+        when(schemaCache.getSchema("article")).thenReturn(new ContentTypeSchema("article", List.of(
+                new FieldSchema("title", FieldType.SHORT_TEXT, true, false, null, null),
+                new FieldSchema("views", FieldType.NUMBER, false, false, null, null))));
+    }
+
+    @Test
+    void createsWithValuesCoercedToTheirColumns() {
+        service.createContent("article", Map.of("views", "12", "title", "Intro"));
+
+        verify(repository).create("ct_article", Map.of("title", "Intro", "views", new BigDecimal("12")));
+    }
+
+    @Test
+    void rejectsUnknownAndSystemFieldsBeforeAnySqlIsBuilt() {
+        CustomExceptions.BadRequestException unknown = assertThrows(CustomExceptions.BadRequestException.class,
+                () -> service.createContent("article", Map.of("title", "a", "title; DROP TABLE x", 1)));
+        assertEquals("Unknown field 'title; DROP TABLE x' for content type 'article'", unknown.getMessage());
+
+        CustomExceptions.BadRequestException system = assertThrows(CustomExceptions.BadRequestException.class,
+                () -> service.updateContent("article", 1L, Map.of("updated_at", "2024-01-01T00:00:00")));
+        assertEquals("Field 'updated_at' is managed by the system and cannot be written", system.getMessage());
+
+        verify(repository, never()).create(anyString(), anyMap());
+        verify(repository, never()).update(anyString(), anyLong(), anyMap());
+        verify(repository, never()).findById(anyString(), any());
+    }
+
+    @Test
+    void requiresRequiredFieldsOnCreateOnly() {
+        CustomExceptions.BadRequestException missing = assertThrows(CustomExceptions.BadRequestException.class,
+                () -> service.createContent("article", Map.of("views", 1)));
+        assertEquals("Field 'title' is required", missing.getMessage());
+
+        when(repository.findById("ct_article", 5L)).thenReturn(Map.of("id", 5L));
+        service.updateContent("article", 5L, Map.of("views", 2));
+        verify(repository).update("ct_article", 5L, Map.of("views", new BigDecimal("2")));
+    }
+}
@@ -3,9 +3,11 @@ package com.apiforge.contenttype;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableAsync;
 
 @SpringBootApplication
 @ComponentScan(basePackages = {"com.apiforge.contenttype", "com.apiforge.common"})
+@EnableAsync
 public class ContentTypeServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(ContentTypeServiceApplication.class, args);
@@ -1,6 +1,7 @@
 package com.apiforge.contenttype.dto;
 
 import com.apiforge.contenttype.model.FieldType;
+import com.apiforge.contenttype.model.IndexType;
 
 public class FieldDto {
     private Long id;
@@ -11,11 +12,14 @@ public class FieldDto {
     private Boolean unique;
     private String targetContentType;
     private String relationType;
+    private Boolean indexed;
+    private IndexType indexType;
+    private String indexCondition;
 
     public FieldDto() {
     }
 
-    public FieldDto(Long id, String name, String fieldName, FieldType type, Boolean required, Boolean unique, String targetContentType, String relationType) {
+    public FieldDto(Long id, String name, String fieldName, FieldType type, Boolean required, Boolean unique, String targetContentType, String relationType, Boolean indexed, IndexType indexType, String indexCondition) {
         this.id = id;
         this.name = name;
         this.fieldName = fieldName;
@@ -24,6 +28,9 @@ public class FieldDto {
         this.unique = unique;
         this.targetContentType = targetContentType;
         this.relationType = relationType;
+        this.indexed = indexed;
+        this.indexType = indexType;
+        this.indexCondition = indexCondition;
     }
 
     public static FieldDtoBuilder builder() {
@@ -46,6 +53,12 @@ public class FieldDto {
     public void setTargetContentType(String targetContentType) { this.targetContentType = targetContentType; }
     public String getRelationType() { return relationType; }
     public void setRelationType(String relationType) { this.relationType = relationType; }
+    public Boolean getIndexed() { return indexed; }
+    public void setIndexed(Boolean indexed) { this.indexed = indexed; }
+    public IndexType getIndexType() { return indexType; }
+    public void setIndexType(IndexType indexType) { this.indexType = indexType; }
+    public String getIndexCondition() { return indexCondition; }
+    public void setIndexCondition(String indexCondition) { this.indexCondition = indexCondition; }
 
     public static class FieldDtoBuilder {
         private Long id;
@@ -56,6 +69,9 @@ public class FieldDto {
         private Boolean unique;
         private String targetContentType;
         private String relationType;
+        private Boolean indexed;
+        private IndexType indexType;
+        private String indexCondition;
 
         public FieldDtoBuilder id(Long id) { this.id = id; return this; }
         public FieldDtoBuilder name(String name) { this.name = name; return this; }
@@ -65,9 +81,12 @@ public class FieldDto {
         public FieldDtoBuilder unique(Boolean unique) { this.unique = unique; return this; }
         public FieldDtoBuilder targetContentType(String targetContentType) { this.targetContentType = targetContentType; return this; }
         public FieldDtoBuilder relationType(String relationType) { this.relationType = relationType; return this; }
+        public FieldDtoBuilder indexed(Boolean indexed) { this.indexed = indexed; return this; }
+        public FieldDtoBuilder indexType(IndexType indexType) { this.indexType = indexType; return this; }
+        public FieldDtoBuilder indexCondition(String indexCondition) { this.indexCondition = indexCondition; return this; }
 
         public FieldDto build() {
-            return new FieldDto(id, name, fieldName, type, required, unique, targetContentType, relationType);
+            return new FieldDto(id, name, fieldName, type, required, unique, targetContentType, relationType, indexed, indexType, indexCondition);
         }
     }
 }
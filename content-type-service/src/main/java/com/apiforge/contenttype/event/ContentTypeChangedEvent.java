@@ -0,0 +1,21 @@
+package com.apiforge.contenttype.event;
+
+public class ContentTypeChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final String apiId;
+    private final ChangeType changeType;
+
+    public ContentTypeChangedEvent(String apiId, ChangeType changeType) {
+        this.apiId = apiId;
+        this.changeType = changeType;
+    }
+
+    public String getApiId() { return apiId; }
+    public ChangeType getChangeType() { return changeType; }
+}
@@ -27,6 +27,14 @@ public class Field {
     private String targetContentType;
     private String relationType;
 
+    private Boolean indexed;
+
+    @Enumerated(EnumType.STRING)
+    private IndexType indexType;
+
+    @Column(length = 1000)
+    private String indexCondition;
+
     @ManyToOne
     @JoinColumn(name = "content_type_id")
     @JsonIgnore
@@ -35,7 +43,7 @@ public class Field {
     public Field() {
     }
 
-    public Field(Long id, String name, String fieldName, FieldType type, Boolean required, Boolean unique, String targetContentType, String relationType, ContentType contentType) {
+    public Field(Long id, String name, String fieldName, FieldType type, Boolean required, Boolean unique, String targetContentType, String relationType, Boolean indexed, IndexType indexType, String indexCondition, ContentType contentType) {
         this.id = id;
         this.name = name;
         this.fieldName = fieldName;
@@ -44,6 +52,9 @@ public class Field {
         this.unique = unique;
         this.targetContentType = targetContentType;
         this.relationType = relationType;
+        this.indexed = indexed;
+        this.indexType = indexType;
+        this.indexCondition = indexCondition;
         this.contentType = contentType;
     }
 
@@ -67,6 +78,12 @@ public class Field {
     public void setTargetContentType(String targetContentType) { this.targetContentType = targetContentType; }
     public String getRelationType() { return relationType; }
     public void setRelationType(String relationType) { this.relationType = relationType; }
+    public Boolean getIndexed() { return indexed; }
+    public void setIndexed(Boolean indexed) { this.indexed = indexed; }
+    public IndexType getIndexType() { return indexType; }
+    public void setIndexType(IndexType indexType) { this.indexType = indexType; }
+    public String getIndexCondition() { return indexCondition; }
+    public void setIndexCondition(String indexCondition) { this.indexCondition = indexCondition; }
     public ContentType getContentType() { return contentType; }
     public void setContentType(ContentType contentType) { this.contentType = contentType; }
 
@@ -79,6 +96,9 @@ public class Field {
         private Boolean unique;
         private String targetContentType;
         private String relationType;
+        private Boolean indexed;
+        private IndexType indexType;
+        private String indexCondition;
         private ContentType contentType;
 
         public FieldBuilder id(Long id) { this.id = id; return this; }
@@ -89,10 +109,13 @@ public class Field {
         public FieldBuilder unique(Boolean unique) { this.unique = unique; return this; }
         public FieldBuilder targetContentType(String targetContentType) { this.targetContentType = targetContentType; return this; }
         public FieldBuilder relationType(String relationType) { this.relationType = relationType; return this; }
+        public FieldBuilder indexed(Boolean indexed) { this.indexed = indexed; return this; }
+        public FieldBuilder indexType(IndexType indexType) { this.indexType = indexType; return this; }
+        public FieldBuilder indexCondition(String indexCondition) { this.indexCondition = indexCondition; return this; }
         public FieldBuilder contentType(ContentType contentType) { this.contentType = contentType; return this; }
 
         public Field build() {
-            return new Field(id, name, fieldName, type, required, unique, targetContentType, relationType, contentType);
+            return new Field(id, name, fieldName, type, required, unique, targetContentType, relationType, indexed, indexType, indexCondition, contentType);
         }
     }
 }
@@ -0,0 +1,14 @@
+package com.apiforge.contenttype.model;
+
+/**
+ * Secondary index kind for an indexed field. Any kind becomes a partial index when the field
+ * also carries an {@code indexCondition}.
+ */
+public enum IndexType {
+    /** Equality, range and ORDER BY. */
+    BTREE,
+    /** Equality only; smaller than a btree on long values. */
+    HASH,
+    /** GIN trigram index for {@code LIKE '%x%'} / prefix searches on text fields. Requires pg_trgm. */
+    TRIGRAM
+}
@@ -4,6 +4,9 @@ import com.apiforge.contenttype.model.Field;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface FieldRepository extends JpaRepository<Field, Long> {
+    List<Field> findByContentTypeApiId(String apiId);
 }
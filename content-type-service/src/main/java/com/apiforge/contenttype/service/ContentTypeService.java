@@ -2,11 +2,13 @@ package com.apiforge.contenttype.service;
 
 import com.apiforge.contenttype.dto.ContentTypeDto;
 import com.apiforge.contenttype.dto.FieldDto;
+import com.apiforge.contenttype.event.ContentTypeChangedEvent;
 import com.apiforge.contenttype.model.ContentType;
 import com.apiforge.contenttype.model.Field;
 import com.apiforge.contenttype.repository.ContentTypeRepository;
 import com.apiforge.common.exception.CustomExceptions;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,9 @@ public class ContentTypeService {
     @Autowired
     private DynamicTableService dynamicTableService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public ContentTypeDto createContentType(ContentTypeDto dto) {
         if (contentTypeRepository.existsByApiId(dto.getApiId())) {
@@ -47,18 +52,24 @@ public class ContentTypeService {
                                 .unique(fieldDto.getUnique())
                                 .targetContentType(fieldDto.getTargetContentType())
                                 .relationType(fieldDto.getRelationType())
+                                .indexed(fieldDto.getIndexed())
+                                .indexType(fieldDto.getIndexType())
+                                .indexCondition(fieldDto.getIndexCondition())
                                 .contentType(finalContentType)
                                 .build();
                         return field;
                     })
                     .collect(Collectors.toList());
 
+            dynamicTableService.validateIndexes(fields);
             contentType.setFields(fields);
         }
 
         ContentType savedContentType = contentTypeRepository.save(contentType);
 
         dynamicTableService.createTableForContentType("ct_" + dto.getApiId(), savedContentType.getFields());
+        eventPublisher.publishEvent(new ContentTypeChangedEvent(
+                savedContentType.getApiId(), ContentTypeChangedEvent.ChangeType.CREATED));
 
         return convertToDto(savedContentType);
     }
@@ -109,17 +120,23 @@ public class ContentTypeService {
                                 .unique(fieldDto.getUnique())
                                 .targetContentType(fieldDto.getTargetContentType())
                                 .relationType(fieldDto.getRelationType())
+                                .indexed(fieldDto.getIndexed())
+                                .indexType(fieldDto.getIndexType())
+                                .indexCondition(fieldDto.getIndexCondition())
                                 .contentType(finalContentType)
                                 .build();
                         return field;
                     })
                     .collect(Collectors.toList());
 
+            dynamicTableService.validateIndexes(newFields);
             contentType.getFields().clear();
             contentType.getFields().addAll(newFields);
         }
 
         ContentType savedContentType = contentTypeRepository.save(contentType);
+        eventPublisher.publishEvent(new ContentTypeChangedEvent(
+                savedContentType.getApiId(), ContentTypeChangedEvent.ChangeType.UPDATED));
 
         return convertToDto(savedContentType);
     }
@@ -132,6 +149,8 @@ public class ContentTypeService {
         dynamicTableService.dropTableForContentType("ct_" + contentType.getApiId());
 
         contentTypeRepository.delete(contentType);
+        eventPublisher.publishEvent(new ContentTypeChangedEvent(
+                contentType.getApiId(), ContentTypeChangedEvent.ChangeType.DELETED));
     }
 
     private ContentTypeDto convertToDto(ContentType contentType) {
@@ -145,6 +164,9 @@ public class ContentTypeService {
                         .unique(field.getUnique())
                         .targetContentType(field.getTargetContentType())
                         .relationType(field.getRelationType())
+                        .indexed(field.getIndexed())
+                        .indexType(field.getIndexType())
+                        .indexCondition(field.getIndexCondition())
                         .build())
                 .collect(Collectors.toList());
 
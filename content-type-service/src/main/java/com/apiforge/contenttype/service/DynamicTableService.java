@@ -1,16 +1,38 @@
 package com.apiforge.contenttype.service;
 
+import com.apiforge.common.exception.CustomExceptions;
 import com.apiforge.contenttype.model.Field;
 import com.apiforge.contenttype.model.FieldType;
+import com.apiforge.contenttype.model.IndexType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
 public class DynamicTableService {
 
+    private static final Logger log = LoggerFactory.getLogger(DynamicTableService.class);
+
+    /** Prefix of every index this service owns; anything else on a {@code ct_*} table is left alone. */
+    static final String MANAGED_INDEX_PREFIX = "ix_";
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    private static final Pattern CONDITION_TOKEN = Pattern.compile(
+            "\\s*(?:([A-Za-z_][A-Za-z0-9_]*)|(-?\\d+(?:\\.\\d+)?)|('[^';\\\\]*')|(<=|>=|<>|!=|=|<|>|\\(|\\)))");
+    private static final Set<String> CONDITION_KEYWORDS = Set.of("AND", "OR", "NOT", "IS", "NULL", "TRUE", "FALSE");
+    private static final Set<String> SYSTEM_COLUMNS = Set.of("id", "created_at", "updated_at");
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
@@ -68,6 +90,139 @@ public class DynamicTableService {
         jdbcTemplate.execute(sql);
     }
 
+    /**
+     * Rejects index settings that cannot be turned into DDL. Partial index conditions are embedded in
+     * {@code CREATE INDEX}, so they are restricted to column comparisons against literals.
+     */
+    public void validateIndexes(List<Field> fields) {
+        Set<String> columns = new HashSet<>(SYSTEM_COLUMNS);
+        fields.forEach(field -> columns.add(field.getFieldName()));
+
+        for (Field field : fields) {
+            if (!Boolean.TRUE.equals(field.getIndexed())) {
+                continue;
+            }
+            if (resolveIndexType(field) == IndexType.TRIGRAM && !isTextType(field.getType())) {
+                throw new CustomExceptions.BadRequestException(
+                        "TRIGRAM indexes are only supported on text fields: " + field.getFieldName());
+            }
+            if (hasCondition(field)) {
+                validateCondition(field.getFieldName(), field.getIndexCondition(), columns);
+            }
+        }
+    }
+
+    /**
+     * Brings the managed indexes of a table in line with the field definitions. Uses
+     * {@code CREATE/DROP INDEX CONCURRENTLY} so writes are not blocked while an index builds, which means
+     * this must not run inside a transaction.
+     */
+    public void syncIndexes(String tableName, List<Field> fields) {
+        Map<String, String> desired = new LinkedHashMap<>();
+        for (Field field : fields) {
+            if (Boolean.TRUE.equals(field.getIndexed())) {
+                desired.put(indexName(tableName, field), createIndexSql(tableName, field));
+            }
+        }
+
+        Map<String, Boolean> existing = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT c.relname, i.indisvalid FROM pg_index i "
+                        + "JOIN pg_class c ON c.oid = i.indexrelid "
+                        + "JOIN pg_class t ON t.oid = i.indrelid "
+                        + "WHERE t.relname = ? AND c.relname LIKE 'ix\\_%' AND pg_table_is_visible(t.oid)",
+                rs -> {
+                    existing.put(rs.getString(1), rs.getBoolean(2));
+                },
+                tableName);
+
+        existing.forEach((name, valid) -> {
+            // A failed concurrent build leaves an INVALID index behind; drop it so it is rebuilt below.
+            if (!desired.containsKey(name) || !valid) {
+                executeIndexDdl("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+            }
+        });
+        desired.forEach((name, ddl) -> {
+            if (!Boolean.TRUE.equals(existing.get(name))) {
+                if (ddl.contains("gin_trgm_ops")) {
+                    executeIndexDdl("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+                }
+                executeIndexDdl(ddl);
+            }
+        });
+    }
+
+    private void executeIndexDdl(String sql) {
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (Exception ex) {
+            log.warn("Index DDL failed: {} ({})", sql, ex.getMessage());
+        }
+    }
+
+    private String createIndexSql(String tableName, Field field) {
+        String column = field.getFieldName();
+        StringBuilder sql = new StringBuilder("CREATE INDEX CONCURRENTLY IF NOT EXISTS ")
+                .append(indexName(tableName, field)).append(" ON ").append(tableName);
+        switch (resolveIndexType(field)) {
+            case BTREE -> sql.append(" (").append(column).append(")");
+            case HASH -> sql.append(" USING hash (").append(column).append(")");
+            case TRIGRAM -> sql.append(" USING gin (").append(column).append(" gin_trgm_ops)");
+        }
+        if (hasCondition(field)) {
+            sql.append(" WHERE ").append(field.getIndexCondition().trim());
+        }
+        return sql.toString();
+    }
+
+    /**
+     * {@code ix_<table>_<column>_<kind>}, plus a hash of the condition for partial indexes so that changing
+     * the condition produces a new index instead of silently keeping the old one.
+     */
+    static String indexName(String tableName, Field field) {
+        String name = MANAGED_INDEX_PREFIX + tableName + "_" + field.getFieldName() + "_"
+                + resolveIndexType(field).name().toLowerCase(Locale.ROOT);
+        if (hasCondition(field)) {
+            name += "_p" + Integer.toHexString(field.getIndexCondition().trim().hashCode());
+        }
+        if (name.length() > MAX_IDENTIFIER_LENGTH) {
+            String suffix = "_" + Integer.toHexString(name.hashCode());
+            name = name.substring(0, MAX_IDENTIFIER_LENGTH - suffix.length()) + suffix;
+        }
+        return name;
+    }
+
+    private static IndexType resolveIndexType(Field field) {
+        return field.getIndexType() != null ? field.getIndexType() : IndexType.BTREE;
+    }
+
+    private static boolean hasCondition(Field field) {
+        return field.getIndexCondition() != null && !field.getIndexCondition().isBlank();
+    }
+
+    private static boolean isTextType(FieldType type) {
+        return type == FieldType.SHORT_TEXT || type == FieldType.LONG_TEXT || type == FieldType.RICH_TEXT;
+    }
+
+    private static void validateCondition(String fieldName, String condition, Set<String> columns) {
+        Matcher matcher = CONDITION_TOKEN.matcher(condition);
+        int position = 0;
+        while (position < condition.length() && matcher.find(position) && matcher.start() == position) {
+            String identifier = matcher.group(1);
+            if (identifier != null && !CONDITION_KEYWORDS.contains(identifier.toUpperCase(Locale.ROOT))
+                    && !columns.contains(identifier)) {
+                throw new CustomExceptions.BadRequestException(
+                        "Unknown column '" + identifier + "' in index condition of " + fieldName);
+            }
+            position = matcher.end();
+        }
+        if (!condition.substring(position).isBlank()) {
+            throw new CustomExceptions.BadRequestException(
+                    "Unsupported index condition for " + fieldName + ": only column comparisons with literals, "
+                            + "IS [NOT] NULL, AND, OR and NOT are allowed");
+        }
+    }
+
     private String mapFieldTypeToSql(FieldType fieldType) {
         return switch (fieldType) {
             case SHORT_TEXT -> "VARCHAR(255)";
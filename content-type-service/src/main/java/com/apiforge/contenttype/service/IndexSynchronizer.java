@@ -0,0 +1,42 @@
+package com.apiforge.contenttype.service;
+
+import com.apiforge.contenttype.event.ContentTypeChangedEvent;
+import com.apiforge.contenttype.repository.FieldRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Applies index changes once a content type change has committed. Concurrent index builds cannot run
+ * inside the request transaction and can take minutes on large tables, so they run on the async executor
+ * with their own autocommit connections.
+ */
+@Component
+public class IndexSynchronizer {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexSynchronizer.class);
+
+    @Autowired
+    private FieldRepository fieldRepository;
+
+    @Autowired
+    private DynamicTableService dynamicTableService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentTypeChanged(ContentTypeChangedEvent event) {
+        if (event.getChangeType() == ContentTypeChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        try {
+            dynamicTableService.syncIndexes("ct_" + event.getApiId(),
+                    fieldRepository.findByContentTypeApiId(event.getApiId()));
+        } catch (Exception ex) {
+            log.warn("Index sync failed for content type {}: {}", event.getApiId(), ex.getMessage());
+        }
+    }
+}
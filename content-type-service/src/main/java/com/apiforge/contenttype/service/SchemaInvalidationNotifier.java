@@ -0,0 +1,51 @@
+package com.apiforge.contenttype.service;
+
+import com.apiforge.contenttype.event.ContentTypeChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+/**
+ * Pushes schema invalidations to content-service once a content type change has committed.
+ * Delivery is best effort: if content-service is unreachable its cache TTL bounds staleness.
+ */
+@Component
+public class SchemaInvalidationNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaInvalidationNotifier.class);
+
+    private final RestClient restClient;
+
+    public SchemaInvalidationNotifier(
+            RestClient.Builder restClientBuilder,
+            @Value("${content-service.url:http://localhost:7083}") String contentServiceUrl,
+            @Value("${content-service.invalidation-timeout:2s}") Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = restClientBuilder
+                .baseUrl(contentServiceUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentTypeChanged(ContentTypeChangedEvent event) {
+        try {
+            restClient.delete()
+                    .uri("/internal/schema-cache/{apiId}", event.getApiId())
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (Exception ex) {
+            log.warn("Could not invalidate schema cache for content type {} ({}): {}",
+                    event.getApiId(), event.getChangeType(), ex.getMessage());
+        }
+    }
+}
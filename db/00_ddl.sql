@@ -1,4 +1,5 @@
 CREATE EXTENSION IF NOT EXISTS pgcrypto;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
 
 DROP TABLE IF EXISTS content_permission_roles CASCADE;
 DROP TABLE IF EXISTS api_permission_roles CASCADE;
@@ -74,6 +75,9 @@ CREATE TABLE fields (
     "unique" BOOLEAN,
     target_content_type VARCHAR(255),
     relation_type VARCHAR(255),
+    indexed BOOLEAN,
+    index_type VARCHAR(255),
+    index_condition VARCHAR(1000),
     content_type_id BIGINT REFERENCES content_types(id) ON DELETE CASCADE
 );
 
@@ -162,6 +166,10 @@ CREATE TABLE ct_article (
     is_published BOOLEAN
 );
 
+CREATE INDEX ix_ct_article_author_id_btree ON ct_article (author_id);
+CREATE INDEX ix_ct_article_category_id_btree ON ct_article (category_id);
+CREATE INDEX ix_ct_article_published_at_btree_pd0e86878 ON ct_article (published_at) WHERE is_published = TRUE;
+
 CREATE TABLE ct_product (
     id BIGSERIAL PRIMARY KEY,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -35,3 +35,7 @@ INSERT INTO fields (id, name, field_name, type, required, "unique", target_conte
     (23, 'Tag', 'tag_id', 'RELATION', FALSE, FALSE, 'tag', 'MANY_TO_ONE', 5),
     (24, 'Primary Image', 'primary_image', 'MEDIA', FALSE, FALSE, NULL, NULL, 5),
     (25, 'In Stock', 'in_stock', 'BOOLEAN', FALSE, FALSE, NULL, NULL, 5);
+
+-- Matching indexes are created in 00_ddl.sql; later changes are applied by DynamicTableService.syncIndexes.
+UPDATE fields SET indexed = TRUE, index_type = 'BTREE' WHERE id IN (13, 14);
+UPDATE fields SET indexed = TRUE, index_type = 'BTREE', index_condition = 'is_published = TRUE' WHERE id = 16;
@@ -37,7 +37,7 @@ INSERT INTO content_permission_roles (permission_id, role_name) VALUES
     (12, 'SUPER_ADMIN'), (12, 'ADMIN'),
 
     (13, 'SUPER_ADMIN'), (13, 'ADMIN'), (13, 'MODERATOR'),
-    (14, 'SUPER_ADMIN'), (14, 'ADMIN'), (14, 'MODERATOR'), (14, 'REGISTERED'),
+    (14, 'SUPER_ADMIN'), (14, 'ADMIN'), (14, 'MODERATOR'), (14, 'REGISTERED'), (14, 'PUBLIC'),
     (15, 'SUPER_ADMIN'), (15, 'ADMIN'), (15, 'MODERATOR'),
     (16, 'SUPER_ADMIN'), (16, 'ADMIN'),
 
@@ -0,0 +1,100 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PID_DIR="$ROOT/.run/pids"
+RESULT_DIR="$ROOT/.run/loadtest"
+
+usage() {
+  cat <<'EOF'
+Usage: ./loadtest.sh [--label NAME] [--service NAME] [--concurrency N] [--duration SECONDS] [URL]
+
+Drives URL (default: http://localhost:7083/api/content/article?limit=20) with `hey` and samples
+the live thread count of SERVICE (default: content-service) while the load runs. Results go to
+./.run/loadtest/<label>.txt.
+
+The default URL is content-service itself, which treats requests without gateway headers as
+PUBLIC. Through the gateway (port 7080), its per-client rate limiter would answer most of the
+load with 429. To measure through the gateway anyway, start it with the limiter off and pass a
+gateway URL:
+
+  APIFORGE_RATE_LIMIT_ENABLED=false ./run-all.sh --skip-build
+  ./loadtest.sh 'http://localhost:7080/api/content/article?limit=20'
+
+To compare execution modes, run the services started by ./run-all.sh once per mode:
+
+  APIFORGE_VIRTUAL_THREADS=false ./run-all.sh --skip-build && ./loadtest.sh --label platform
+  ./stop-all.sh
+  APIFORGE_VIRTUAL_THREADS=true ./run-all.sh --skip-build && ./loadtest.sh --label virtual
+
+Set TOKEN to send `Authorization: Bearer $TOKEN`.
+EOF
+}
+
+LABEL="run"
+SERVICE="content-service"
+CONCURRENCY=200
+DURATION=30
+URL="http://localhost:7083/api/content/article?limit=20"
+
+while [ $# -gt 0 ]; do
+  case "$1" in
+    -h|--help) usage; exit 0 ;;
+    --label) LABEL="$2"; shift 2 ;;
+    --service) SERVICE="$2"; shift 2 ;;
+    --concurrency) CONCURRENCY="$2"; shift 2 ;;
+    --duration) DURATION="$2"; shift 2 ;;
+    *) URL="$1"; shift ;;
+  esac
+done
+
+if ! command -v hey >/dev/null 2>&1; then
+  echo "hey is required (https://github.com/rakyll/hey, e.g. 'go install github.com/rakyll/hey@latest')."
+  exit 1
+fi
+
+pid_file="$PID_DIR/$SERVICE.pid"
+if [ ! -f "$pid_file" ] || ! kill -0 "$(cat "$pid_file")" 2>/dev/null; then
+  echo "$SERVICE is not running; start it with ./run-all.sh."
+  exit 1
+fi
+pid="$(cat "$pid_file")"
+
+mkdir -p "$RESULT_DIR"
+result_file="$RESULT_DIR/$LABEL.txt"
+
+thread_count() {
+  # Platform threads only: virtual threads have no OS thread and do not show up here.
+  ls "/proc/$pid/task" | wc -l
+}
+
+auth_args=()
+if [ -n "${TOKEN:-}" ]; then
+  auth_args=(-H "Authorization: Bearer $TOKEN")
+fi
+
+echo "Warming up..."
+hey -z 5s -c "$CONCURRENCY" ${auth_args[@]+"${auth_args[@]}"} "$URL" >/dev/null
+
+(
+  while true; do
+    thread_count
+    sleep 1
+  done
+) >"$RESULT_DIR/$LABEL.threads" &
+sampler=$!
+trap 'kill $sampler 2>/dev/null || true' EXIT
+
+echo "Running $DURATION s at concurrency $CONCURRENCY against $URL"
+hey -z "${DURATION}s" -c "$CONCURRENCY" ${auth_args[@]+"${auth_args[@]}"} "$URL" >"$result_file"
+kill $sampler 2>/dev/null || true
+
+peak="$(sort -n "$RESULT_DIR/$LABEL.threads" | tail -1)"
+{
+  echo
+  echo "Peak OS threads in $SERVICE (pid $pid): $peak"
+} >>"$result_file"
+
+grep -E "Requests/sec|Average|Slowest|99% in|Status code|\[[0-9]{3}\]" "$result_file" || true
+echo "Peak OS threads in $SERVICE: $peak"
+echo "Full report: $result_file"
@@ -34,6 +34,7 @@ public class MediaController {
     @GetMapping
     @Operation(
             summary = "List media",
+            description = "Pass `ids=1,2,3` to fetch only those entries in one call; unknown ids are skipped.",
             responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200",
                     description = "Seeded media entries",
@@ -82,8 +83,8 @@ public class MediaController {
                     )
             )
     )
-    public ResponseEntity<ApiResponse<List<Media>>> getAllMedia() {
-        List<Media> mediaList = mediaService.getAllMedia();
+    public ResponseEntity<ApiResponse<List<Media>>> getAllMedia(@RequestParam(required = false) List<Long> ids) {
+        List<Media> mediaList = ids != null ? mediaService.getMediaByIds(ids) : mediaService.getAllMedia();
         return ResponseEntity.ok(ApiResponse.success(mediaList));
     }
 
@@ -3,6 +3,9 @@ package com.apiforge.media.service;
 import com.apiforge.media.model.Media;
 import com.apiforge.media.repository.MediaRepository;
 import com.apiforge.common.exception.CustomExceptions;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -12,7 +15,6 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -28,9 +30,17 @@ public class MediaService {
 
     private final Path fileStorageLocation;
 
+    // Throughput is rate(apiforge.media.transfer.bytes_sum); the upload timer covers the write to storage.
+    private final Timer uploadTimer;
+    private final DistributionSummary uploadBytes;
+    private final DistributionSummary downloadBytes;
+
     @Autowired
-    public MediaService(@Value("${file.upload-dir}") String uploadDir) {
+    public MediaService(@Value("${file.upload-dir}") String uploadDir, MeterRegistry meterRegistry) {
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.uploadTimer = Timer.builder("apiforge.media.upload").register(meterRegistry);
+        this.uploadBytes = transferSummary(meterRegistry, "upload");
+        this.downloadBytes = transferSummary(meterRegistry, "download");
 
         try {
             Files.createDirectories(this.fileStorageLocation);
@@ -58,7 +68,10 @@ public class MediaService {
             }
 
             Path targetLocation = this.fileStorageLocation.resolve(fileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            Timer.Sample sample = Timer.start();
+            long written = Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            sample.stop(uploadTimer);
+            uploadBytes.record(written);
 
             Media media = Media.builder()
                 .name(storedName)
@@ -81,11 +94,12 @@ public class MediaService {
             Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
             Resource resource = new UrlResource(filePath.toUri());
             if (resource.exists()) {
+                downloadBytes.record(Files.size(filePath));
                 return resource;
             } else {
                 throw new CustomExceptions.ResourceNotFoundException("File not found " + fileName);
             }
-        } catch (MalformedURLException ex) {
+        } catch (IOException ex) {
             throw new CustomExceptions.ResourceNotFoundException("File not found " + fileName);
         }
     }
@@ -94,6 +108,10 @@ public class MediaService {
         return mediaRepository.findAll();
     }
 
+    public List<Media> getMediaByIds(List<Long> ids) {
+        return mediaRepository.findAllById(ids);
+    }
+
     public Media getMediaById(Long id) {
         return mediaRepository.findById(id)
                 .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException("Media not found"));
@@ -124,6 +142,13 @@ public class MediaService {
         mediaRepository.delete(media);
     }
 
+    private static DistributionSummary transferSummary(MeterRegistry meterRegistry, String direction) {
+        return DistributionSummary.builder("apiforge.media.transfer.bytes")
+                .baseUnit("bytes")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
     private String resolveUniqueName(String originalFileName) {
         if (originalFileName == null || originalFileName.isBlank()) {
             return "upload";
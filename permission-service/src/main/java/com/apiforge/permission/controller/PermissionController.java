@@ -2,6 +2,7 @@ package com.apiforge.permission.controller;
 
 import com.apiforge.common.dto.ApiResponse;
 import com.apiforge.permission.dto.ApiPermissionDto;
+import com.apiforge.permission.dto.BatchPermissionCheckRequestDto;
 import com.apiforge.permission.dto.ContentPermissionDto;
 import com.apiforge.permission.service.PermissionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -138,7 +139,7 @@ public class PermissionController {
                                                   "id": 14,
                                                   "contentTypeApiId": "article",
                                                   "action": "READ",
-                                                  "allowedRoles": ["SUPER_ADMIN", "ADMIN", "MODERATOR", "REGISTERED"]
+                                                  "allowedRoles": ["SUPER_ADMIN", "ADMIN", "MODERATOR", "REGISTERED", "PUBLIC"]
                                                 }
                                               ],
                                               "error": null
@@ -189,4 +190,10 @@ public class PermissionController {
         );
         return ResponseEntity.ok(ApiResponse.success(hasPermission));
     }
+
+    @PostMapping("/check/batch")
+    public ResponseEntity<ApiResponse<List<Boolean>>> checkPermissions(@RequestBody BatchPermissionCheckRequestDto request) {
+        List<Boolean> results = permissionService.checkPermissions(request);
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
 }
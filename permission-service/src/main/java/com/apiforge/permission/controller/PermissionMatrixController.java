@@ -0,0 +1,45 @@
+package com.apiforge.permission.controller;
+
+import com.apiforge.common.dto.ApiResponse;
+import com.apiforge.permission.service.PermissionEventPublisher;
+import com.apiforge.permission.service.PermissionMatrix;
+import com.apiforge.permission.service.PermissionMatrixService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/internal/permission-matrix")
+public class PermissionMatrixController {
+
+    @Autowired
+    private PermissionMatrixService permissionMatrixService;
+
+    @Autowired
+    private PermissionEventPublisher permissionEventPublisher;
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> stats() {
+        PermissionMatrix matrix = permissionMatrixService.current();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("version", matrix.getVersion());
+        stats.put("builtAt", matrix.getBuiltAt().toString());
+        stats.put("apiRules", matrix.getApiRuleCount());
+        stats.put("contentRules", matrix.getContentRuleCount());
+        stats.put("roles", matrix.getRoleCount());
+        stats.put("eventSubscribers", permissionEventPublisher.getSubscriberCount());
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events() {
+        return permissionMatrixService.subscribe();
+    }
+}
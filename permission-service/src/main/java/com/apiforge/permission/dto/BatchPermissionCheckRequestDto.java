@@ -0,0 +1,17 @@
+package com.apiforge.permission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchPermissionCheckRequestDto {
+    private List<String> userRoles;
+    private List<PermissionCheckDto> checks;
+}
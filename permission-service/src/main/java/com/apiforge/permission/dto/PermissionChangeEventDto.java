@@ -0,0 +1,30 @@
+package com.apiforge.permission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Pushed to subscribers of {@code /internal/permission-matrix/events} whenever the permission matrix is rebuilt.
+ * {@code version} is the matrix version after the change; a consumer that sees a gap in versions has
+ * missed events and should drop everything it cached.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PermissionChangeEventDto {
+
+    public enum Scope {
+        API, CONTENT
+    }
+
+    private long version;
+    private Scope scope;
+    private Set<String> contentTypeApiIds;
+    private Instant changedAt;
+}
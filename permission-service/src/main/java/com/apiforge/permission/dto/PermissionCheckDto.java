@@ -0,0 +1,21 @@
+package com.apiforge.permission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a batch check: an API permission when {@code endpoint} and {@code method} are set, a
+ * content permission when {@code action} is set.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PermissionCheckDto {
+    private String contentTypeApiId;
+    private String endpoint;
+    private String method;
+    private String action;
+}
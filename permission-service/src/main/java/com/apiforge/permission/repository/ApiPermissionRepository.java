@@ -2,6 +2,7 @@ package com.apiforge.permission.repository;
 
 import com.apiforge.permission.model.ApiPermission;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,6 +11,10 @@ import java.util.Optional;
 @Repository
 public interface ApiPermissionRepository extends JpaRepository<ApiPermission, Long> {
     List<ApiPermission> findByContentTypeApiId(String contentTypeApiId);
+
+    @Query("SELECT DISTINCT p FROM ApiPermission p LEFT JOIN FETCH p.allowedRoles")
+    List<ApiPermission> findAllWithRoles();
+
     Optional<ApiPermission> findByContentTypeApiIdAndEndpointAndMethod(
             String contentTypeApiId, String endpoint, String method);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.apiforge.permission.repository;
 
 import com.apiforge.permission.model.ContentPermission;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,5 +11,9 @@ import java.util.Optional;
 @Repository
 public interface ContentPermissionRepository extends JpaRepository<ContentPermission, Long> {
     List<ContentPermission> findByContentTypeApiId(String contentTypeApiId);
+
+    @Query("SELECT DISTINCT p FROM ContentPermission p LEFT JOIN FETCH p.allowedRoles")
+    List<ContentPermission> findAllWithRoles();
+
     Optional<ContentPermission> findByContentTypeApiIdAndAction(String contentTypeApiId, String action);
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.apiforge.permission.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts permission checks as {@code apiforge.permission.checks}, tagged by check type ({@code api} or
+ * {@code content}) and result, so the allow/deny ratio per type can be graphed. Batch checks count once
+ * per entry.
+ */
+@Component
+public class PermissionCheckMetrics {
+
+    static final String COUNTER_NAME = "apiforge.permission.checks";
+
+    private final Counter apiAllowed;
+    private final Counter apiDenied;
+    private final Counter contentAllowed;
+    private final Counter contentDenied;
+
+    public PermissionCheckMetrics(MeterRegistry meterRegistry) {
+        this.apiAllowed = counter(meterRegistry, "api", "allowed");
+        this.apiDenied = counter(meterRegistry, "api", "denied");
+        this.contentAllowed = counter(meterRegistry, "content", "allowed");
+        this.contentDenied = counter(meterRegistry, "content", "denied");
+    }
+
+    public boolean api(boolean allowed) {
+        (allowed ? apiAllowed : apiDenied).increment();
+        return allowed;
+    }
+
+    public boolean content(boolean allowed) {
+        (allowed ? contentAllowed : contentDenied).increment();
+        return allowed;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String type, String result) {
+        return Counter.builder(COUNTER_NAME)
+                .tag("type", type)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,149 @@
+package com.apiforge.permission.service;
+
+import com.apiforge.permission.dto.PermissionChangeEventDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans permission change events out to Server-Sent Events subscribers (the gateway and other services
+ * caching permission decisions). Every new subscriber first receives a {@code snapshot} event carrying
+ * the current matrix version, so it can tell whether it missed changes while disconnected.
+ *
+ * Publishing only queues: each subscriber has a bounded queue, drained in order by one task at a time, so a
+ * slow or half-open connection never holds up the permission write that published the event. A subscriber
+ * with {@code max-pending} undelivered events, or whose current send has taken longer than
+ * {@code send-timeout}, is dropped and re-syncs from the snapshot event when it reconnects.
+ */
+@Service
+public class PermissionEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionEventPublisher.class);
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String CHANGE_EVENT = "permission-change";
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("permission-events-", 0).factory());
+
+    @Value("${apiforge.permissions.events.emitter-timeout:0}")
+    private long emitterTimeout;
+
+    @Value("${apiforge.permissions.events.max-pending:256}")
+    private int maxPending;
+
+    @Value("${apiforge.permissions.events.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    public SseEmitter subscribe(long currentVersion) {
+        return subscribe(currentVersion, new SseEmitter(emitterTimeout));
+    }
+
+    SseEmitter subscribe(long currentVersion, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.offer(SseEmitter.event()
+                .name(SNAPSHOT_EVENT)
+                .id(Long.toString(currentVersion))
+                .data(PermissionChangeEventDto.builder().version(currentVersion).build()));
+        return emitter;
+    }
+
+    /**
+     * Queues the event for every subscriber and returns without waiting for delivery. Events are delivered
+     * in the order they are published.
+     */
+    public void publish(PermissionChangeEventDto event) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event()
+                    .name(CHANGE_EVENT)
+                    .id(Long.toString(event.getVersion()))
+                    .data(event));
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        senders.shutdownNow();
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending = new ArrayBlockingQueue<>(maxPending);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        /** {@link System#nanoTime()} when the send in progress started, 0 while idle. */
+        private volatile long sendStartedAt;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            long started = sendStartedAt;
+            if (started != 0 && System.nanoTime() - started > sendTimeout.toNanos()) {
+                drop(new IOException("send blocked for more than " + sendTimeout));
+            } else if (!pending.offer(event)) {
+                drop(new IOException("more than " + maxPending + " undelivered events"));
+            } else {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    sendStartedAt = System.nanoTime();
+                    emitter.send(event);
+                    sendStartedAt = 0;
+                }
+            } catch (IOException | IllegalStateException ex) {
+                drop(ex);
+                return;
+            } finally {
+                sendStartedAt = 0;
+                draining.set(false);
+            }
+            // An event queued after the last poll but before draining was cleared would otherwise wait.
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void drop(Exception reason) {
+            if (subscribers.remove(this)) {
+                // The subscriber went away or fell behind; it re-syncs from the snapshot event when it reconnects.
+                log.debug("Dropping permission event subscriber: {}", reason.getMessage());
+                pending.clear();
+                emitter.completeWithError(reason);
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.apiforge.permission.service;
+
+import com.apiforge.permission.model.ApiPermission;
+import com.apiforge.permission.model.ContentPermission;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of every API and content permission, compiled so that a check is a few map lookups
+ * and bit tests. Each role name gets a bit index; each rule (content type, endpoint, method) or
+ * (content type, action) stores the set of allowed roles as a {@link BitSet}. Lookups are keyed by the
+ * request strings through nested maps, so a check does not allocate.
+ *
+ * <p>Instances are never modified after {@link #compile}; a change produces a new matrix that replaces
+ * the old one atomically.
+ */
+public final class PermissionMatrix {
+
+    public static final PermissionMatrix EMPTY = compile(0, List.of(), List.of());
+
+    private final long version;
+    private final Instant builtAt;
+    private final Map<String, Integer> roleIndex;
+    /** contentTypeApiId -> endpoint -> method -> allowed roles */
+    private final Map<String, Map<String, Map<String, BitSet>>> apiRules;
+    /** contentTypeApiId -> action -> allowed roles */
+    private final Map<String, Map<String, BitSet>> contentRules;
+    private final int apiRuleCount;
+    private final int contentRuleCount;
+
+    private PermissionMatrix(long version, Map<String, Integer> roleIndex,
+                             Map<String, Map<String, Map<String, BitSet>>> apiRules,
+                             Map<String, Map<String, BitSet>> contentRules,
+                             int apiRuleCount, int contentRuleCount) {
+        this.version = version;
+        this.builtAt = Instant.now();
+        this.roleIndex = roleIndex;
+        this.apiRules = apiRules;
+        this.contentRules = contentRules;
+        this.apiRuleCount = apiRuleCount;
+        this.contentRuleCount = contentRuleCount;
+    }
+
+    public static PermissionMatrix compile(long version, Collection<ApiPermission> apiPermissions,
+                                           Collection<ContentPermission> contentPermissions) {
+        Map<String, Integer> roleIndex = new HashMap<>();
+
+        Map<String, Map<String, Map<String, BitSet>>> apiRules = new HashMap<>();
+        for (ApiPermission permission : apiPermissions) {
+            BitSet roles = apiRules
+                    .computeIfAbsent(permission.getContentTypeApiId(), key -> new HashMap<>())
+                    .computeIfAbsent(permission.getEndpoint(), key -> new HashMap<>())
+                    .computeIfAbsent(permission.getMethod(), key -> new BitSet());
+            // Duplicate rows for one key are unioned rather than making the lookup ambiguous.
+            addRoles(roles, permission.getAllowedRoles(), roleIndex);
+        }
+
+        Map<String, Map<String, BitSet>> contentRules = new HashMap<>();
+        for (ContentPermission permission : contentPermissions) {
+            BitSet roles = contentRules
+                    .computeIfAbsent(permission.getContentTypeApiId(), key -> new HashMap<>())
+                    .computeIfAbsent(permission.getAction(), key -> new BitSet());
+            addRoles(roles, permission.getAllowedRoles(), roleIndex);
+        }
+
+        int apiRuleCount = apiRules.values().stream()
+                .flatMap(byEndpoint -> byEndpoint.values().stream())
+                .mapToInt(Map::size)
+                .sum();
+        int contentRuleCount = contentRules.values().stream().mapToInt(Map::size).sum();
+
+        return new PermissionMatrix(version, Map.copyOf(roleIndex), freezeApiRules(apiRules),
+                freezeNested(contentRules), apiRuleCount, contentRuleCount);
+    }
+
+    public boolean isApiAllowed(String contentTypeApiId, String endpoint, String method, List<String> userRoles) {
+        if (contentTypeApiId == null || endpoint == null || method == null) {
+            return false;
+        }
+        Map<String, Map<String, BitSet>> byEndpoint = apiRules.get(contentTypeApiId);
+        if (byEndpoint == null) {
+            return false;
+        }
+        Map<String, BitSet> byMethod = byEndpoint.get(endpoint);
+        if (byMethod == null) {
+            return false;
+        }
+        return anyAllowed(byMethod.get(method), userRoles);
+    }
+
+    public boolean isContentAllowed(String contentTypeApiId, String action, List<String> userRoles) {
+        if (contentTypeApiId == null || action == null) {
+            return false;
+        }
+        Map<String, BitSet> byAction = contentRules.get(contentTypeApiId);
+        if (byAction == null) {
+            return false;
+        }
+        return anyAllowed(byAction.get(action), userRoles);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    public int getRoleCount() {
+        return roleIndex.size();
+    }
+
+    public int getApiRuleCount() {
+        return apiRuleCount;
+    }
+
+    public int getContentRuleCount() {
+        return contentRuleCount;
+    }
+
+    private boolean anyAllowed(BitSet allowed, List<String> userRoles) {
+        if (allowed == null || userRoles == null) {
+            return false;
+        }
+        for (int i = 0; i < userRoles.size(); i++) {
+            String role = userRoles.get(i);
+            Integer bit = role != null ? roleIndex.get(role) : null;
+            if (bit != null && allowed.get(bit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addRoles(BitSet target, Set<String> roles, Map<String, Integer> roleIndex) {
+        if (roles == null) {
+            return;
+        }
+        for (String role : roles) {
+            target.set(roleIndex.computeIfAbsent(role, key -> roleIndex.size()));
+        }
+    }
+
+    private static Map<String, Map<String, Map<String, BitSet>>> freezeApiRules(
+            Map<String, Map<String, Map<String, BitSet>>> rules) {
+        Map<String, Map<String, Map<String, BitSet>>> frozen = new HashMap<>();
+        rules.forEach((contentType, byEndpoint) -> frozen.put(contentType, freezeNested(byEndpoint)));
+        return Map.copyOf(frozen);
+    }
+
+    private static Map<String, Map<String, BitSet>> freezeNested(Map<String, Map<String, BitSet>> rules) {
+        Map<String, Map<String, BitSet>> frozen = new HashMap<>();
+        rules.forEach((key, byName) -> frozen.put(key, Map.copyOf(byName)));
+        return Map.copyOf(frozen);
+    }
+}
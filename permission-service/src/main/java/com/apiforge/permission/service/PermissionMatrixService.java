@@ -0,0 +1,86 @@
+package com.apiforge.permission.service;
+
+import com.apiforge.permission.dto.PermissionChangeEventDto;
+import com.apiforge.permission.model.ApiPermission;
+import com.apiforge.permission.model.ContentPermission;
+import com.apiforge.permission.repository.ApiPermissionRepository;
+import com.apiforge.permission.repository.ContentPermissionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Holds the current {@link PermissionMatrix}. The matrix is compiled on first use and recompiled after
+ * every permission write; readers always see either the old or the new snapshot, never a partial one.
+ * Each rebuild is announced to {@link PermissionEventPublisher} subscribers with the new version.
+ */
+@Service
+public class PermissionMatrixService {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionMatrixService.class);
+
+    @Autowired
+    private ApiPermissionRepository apiPermissionRepository;
+
+    @Autowired
+    private ContentPermissionRepository contentPermissionRepository;
+
+    @Autowired
+    private PermissionEventPublisher permissionEventPublisher;
+
+    private volatile PermissionMatrix matrix;
+
+    public PermissionMatrix current() {
+        PermissionMatrix snapshot = matrix;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = matrix;
+                if (snapshot == null) {
+                    snapshot = compile();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reloads all rules, swaps in a new matrix and publishes the change. Rebuilds are serialized so that a
+     * rebuild triggered by a later write always reads that write and is published last. Publishing only
+     * queues the event, so no subscriber I/O happens under the lock.
+     */
+    public synchronized void rebuild(PermissionChangeEventDto.Scope scope, Set<String> contentTypeApiIds) {
+        PermissionMatrix compiled = compile();
+        permissionEventPublisher.publish(PermissionChangeEventDto.builder()
+                .version(compiled.getVersion())
+                .scope(scope)
+                .contentTypeApiIds(contentTypeApiIds)
+                .changedAt(Instant.now())
+                .build());
+    }
+
+    /**
+     * Registers an event subscriber under the rebuild lock, so the snapshot version it receives and the
+     * first change event it sees cannot skip or repeat a version.
+     */
+    public synchronized SseEmitter subscribe() {
+        return permissionEventPublisher.subscribe(current().getVersion());
+    }
+
+    private PermissionMatrix compile() {
+        List<ApiPermission> apiPermissions = apiPermissionRepository.findAllWithRoles();
+        List<ContentPermission> contentPermissions = contentPermissionRepository.findAllWithRoles();
+        // Versions continue from the start time after a restart, so subscribers never see one reused.
+        long version = matrix != null ? matrix.getVersion() + 1 : System.currentTimeMillis();
+        PermissionMatrix compiled = PermissionMatrix.compile(version, apiPermissions, contentPermissions);
+        matrix = compiled;
+        log.debug("Compiled permission matrix v{}: {} API rules, {} content rules, {} roles", version,
+                compiled.getApiRuleCount(), compiled.getContentRuleCount(), compiled.getRoleCount());
+        return compiled;
+    }
+}
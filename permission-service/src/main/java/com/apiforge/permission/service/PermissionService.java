@@ -2,15 +2,21 @@ package com.apiforge.permission.service;
 
 import com.apiforge.common.exception.CustomExceptions;
 import com.apiforge.permission.dto.ApiPermissionDto;
+import com.apiforge.permission.dto.BatchPermissionCheckRequestDto;
 import com.apiforge.permission.dto.ContentPermissionDto;
+import com.apiforge.permission.dto.PermissionChangeEventDto.Scope;
+import com.apiforge.permission.dto.PermissionCheckDto;
 import com.apiforge.permission.model.ApiPermission;
 import com.apiforge.permission.model.ContentPermission;
 import com.apiforge.permission.repository.ApiPermissionRepository;
 import com.apiforge.permission.repository.ContentPermissionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,6 +28,15 @@ public class PermissionService {
     @Autowired
     private ContentPermissionRepository contentPermissionRepository;
 
+    @Autowired
+    private PermissionMatrixService permissionMatrixService;
+
+    @Autowired
+    private PermissionCheckMetrics permissionCheckMetrics;
+
+    @Value("${apiforge.permissions.batch-check.max-checks:1000}")
+    private int maxBatchChecks;
+
     public ApiPermissionDto createApiPermission(ApiPermissionDto dto) {
         ApiPermission permission = ApiPermission.builder()
                 .contentTypeApiId(dto.getContentTypeApiId())
@@ -31,6 +46,7 @@ public class PermissionService {
                 .build();
 
         permission = apiPermissionRepository.save(permission);
+        permissionMatrixService.rebuild(Scope.API, Set.of(permission.getContentTypeApiId()));
         return convertApiPermissionToDto(permission);
     }
 
@@ -55,6 +71,7 @@ public class PermissionService {
     public ApiPermissionDto updateApiPermission(Long id, ApiPermissionDto dto) {
         ApiPermission permission = apiPermissionRepository.findById(id)
                 .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException("API permission not found"));
+        String previousApiId = permission.getContentTypeApiId();
 
         if (dto.getContentTypeApiId() != null) {
             permission.setContentTypeApiId(dto.getContentTypeApiId());
@@ -69,28 +86,21 @@ public class PermissionService {
             permission.setAllowedRoles(dto.getAllowedRoles());
         }
         permission = apiPermissionRepository.save(permission);
+        permissionMatrixService.rebuild(Scope.API, Set.copyOf(List.of(previousApiId, permission.getContentTypeApiId())));
 
         return convertApiPermissionToDto(permission);
     }
 
     public void deleteApiPermission(Long id) {
-        if (!apiPermissionRepository.existsById(id)) {
-            throw new CustomExceptions.ResourceNotFoundException("API permission not found");
-        }
-        apiPermissionRepository.deleteById(id);
+        ApiPermission permission = apiPermissionRepository.findById(id)
+                .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException("API permission not found"));
+        apiPermissionRepository.delete(permission);
+        permissionMatrixService.rebuild(Scope.API, Set.of(permission.getContentTypeApiId()));
     }
 
     public boolean checkApiPermission(String contentTypeApiId, String endpoint, String method, List<String> userRoles) {
-        ApiPermission permission = apiPermissionRepository
-                .findByContentTypeApiIdAndEndpointAndMethod(contentTypeApiId, endpoint, method)
-                .orElse(null);
-
-        if (permission == null) {
-            return false; 
-        }
-
-        return permission.getAllowedRoles().stream()
-                .anyMatch(userRoles::contains);
+        return permissionCheckMetrics.api(
+                permissionMatrixService.current().isApiAllowed(contentTypeApiId, endpoint, method, userRoles));
     }
 
     public ContentPermissionDto createContentPermission(ContentPermissionDto dto) {
@@ -101,6 +111,7 @@ public class PermissionService {
                 .build();
 
         permission = contentPermissionRepository.save(permission);
+        permissionMatrixService.rebuild(Scope.CONTENT, Set.of(permission.getContentTypeApiId()));
         return convertContentPermissionToDto(permission);
     }
 
@@ -125,6 +136,7 @@ public class PermissionService {
     public ContentPermissionDto updateContentPermission(Long id, ContentPermissionDto dto) {
         ContentPermission permission = contentPermissionRepository.findById(id)
                 .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException("Content permission not found"));
+        String previousApiId = permission.getContentTypeApiId();
 
         if (dto.getContentTypeApiId() != null) {
             permission.setContentTypeApiId(dto.getContentTypeApiId());
@@ -136,28 +148,64 @@ public class PermissionService {
             permission.setAllowedRoles(dto.getAllowedRoles());
         }
         permission = contentPermissionRepository.save(permission);
+        permissionMatrixService.rebuild(Scope.CONTENT, Set.copyOf(List.of(previousApiId, permission.getContentTypeApiId())));
 
         return convertContentPermissionToDto(permission);
     }
 
     public void deleteContentPermission(Long id) {
-        if (!contentPermissionRepository.existsById(id)) {
-            throw new CustomExceptions.ResourceNotFoundException("Content permission not found");
-        }
-        contentPermissionRepository.deleteById(id);
+        ContentPermission permission = contentPermissionRepository.findById(id)
+                .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException("Content permission not found"));
+        contentPermissionRepository.delete(permission);
+        permissionMatrixService.rebuild(Scope.CONTENT, Set.of(permission.getContentTypeApiId()));
     }
 
     public boolean checkContentPermission(String contentTypeApiId, String action, List<String> userRoles) {
-        ContentPermission permission = contentPermissionRepository
-                .findByContentTypeApiIdAndAction(contentTypeApiId, action)
-                .orElse(null);
+        return permissionCheckMetrics.content(
+                permissionMatrixService.current().isContentAllowed(contentTypeApiId, action, userRoles));
+    }
+
+    /**
+     * Evaluates every check against the same matrix snapshot, so the answers are consistent with each
+     * other even if permissions change while the batch runs. Results are in request order.
+     */
+    public List<Boolean> checkPermissions(BatchPermissionCheckRequestDto request) {
+        List<PermissionCheckDto> checks = request.getChecks();
+        if (checks == null || checks.isEmpty()) {
+            throw new CustomExceptions.BadRequestException("checks must not be empty");
+        }
+        if (checks.size() > maxBatchChecks) {
+            throw new CustomExceptions.BadRequestException("A batch may contain at most " + maxBatchChecks + " checks");
+        }
+        for (int i = 0; i < checks.size(); i++) {
+            validateCheck(i, checks.get(i));
+        }
 
-        if (permission == null) {
-            return false;
+        PermissionMatrix matrix = permissionMatrixService.current();
+        List<String> userRoles = request.getUserRoles() != null ? request.getUserRoles() : List.of();
+        List<Boolean> results = new ArrayList<>(checks.size());
+        for (PermissionCheckDto check : checks) {
+            results.add(check.getAction() != null
+                    ? permissionCheckMetrics.content(
+                            matrix.isContentAllowed(check.getContentTypeApiId(), check.getAction(), userRoles))
+                    : permissionCheckMetrics.api(
+                            matrix.isApiAllowed(check.getContentTypeApiId(), check.getEndpoint(), check.getMethod(), userRoles)));
         }
+        return results;
+    }
 
-        return permission.getAllowedRoles().stream()
-                .anyMatch(userRoles::contains);
+    private static void validateCheck(int index, PermissionCheckDto check) {
+        String prefix = "checks[" + index + "]: ";
+        if (check == null || check.getContentTypeApiId() == null) {
+            throw new CustomExceptions.BadRequestException(prefix + "contentTypeApiId is required");
+        }
+        boolean api = check.getEndpoint() != null || check.getMethod() != null;
+        if (api == (check.getAction() != null)) {
+            throw new CustomExceptions.BadRequestException(prefix + "set either endpoint and method, or action");
+        }
+        if (api && (check.getEndpoint() == null || check.getMethod() == null)) {
+            throw new CustomExceptions.BadRequestException(prefix + "endpoint and method are both required");
+        }
     }
 
     private ApiPermissionDto convertApiPermissionToDto(ApiPermission permission) {
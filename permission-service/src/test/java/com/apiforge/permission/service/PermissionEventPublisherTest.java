@@ -0,0 +1,148 @@
+package com.apiforge.permission.service;
+
+import com.apiforge.permission.dto.PermissionChangeEventDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PermissionEventPublisherTest {
+
+    private static final Pattern ID = Pattern.compile("id:(\\d+)");
+
+    private final PermissionEventPublisher publisher = new PermissionEventPublisher();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(publisher, "maxPending", 16);
+        ReflectionTestUtils.setField(publisher, "sendTimeout", Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        publisher.stop();
+    }
+
+    @Test
+    void publishesWithoutWaitingForASlowSubscriber() throws InterruptedException {
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        publisher.subscribe(1, slow);
+        publisher.subscribe(1, fast);
+        slow.sending.await(5, TimeUnit.SECONDS);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            publisher.publish(event(2));
+            publisher.publish(event(3));
+        });
+
+        awaitTrue(() -> fast.versions.size() == 3);
+        assertEquals(List.of(1L, 2L, 3L), fast.versions);
+        assertEquals(List.of(), slow.versions);
+
+        release.countDown();
+        awaitTrue(() -> slow.versions.size() == 3);
+        assertEquals(List.of(1L, 2L, 3L), slow.versions);
+    }
+
+    @Test
+    void dropsASubscriberThatFallsTooFarBehind() throws InterruptedException {
+        ReflectionTestUtils.setField(publisher, "maxPending", 2);
+        RecordingEmitter stuck = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        publisher.subscribe(1, stuck);
+        publisher.subscribe(1, fast);
+        stuck.sending.await(5, TimeUnit.SECONDS);
+
+        for (long version = 2; version <= 4; version++) {
+            publisher.publish(event(version));
+            long delivered = version;
+            awaitTrue(() -> fast.versions.size() == delivered);
+        }
+
+        assertEquals(1, publisher.getSubscriberCount());
+        assertTrue(stuck.failed);
+        assertEquals(List.of(1L, 2L, 3L, 4L), fast.versions);
+    }
+
+    @Test
+    void dropsASubscriberStuckInOneSend() throws InterruptedException {
+        ReflectionTestUtils.setField(publisher, "sendTimeout", Duration.ofMillis(20));
+        RecordingEmitter stuck = new RecordingEmitter(release);
+        publisher.subscribe(1, stuck);
+        stuck.sending.await(5, TimeUnit.SECONDS);
+        Thread.sleep(50);
+
+        publisher.publish(event(2));
+
+        assertEquals(0, publisher.getSubscriberCount());
+        assertTrue(stuck.failed);
+    }
+
+    private static PermissionChangeEventDto event(long version) {
+        return PermissionChangeEventDto.builder().version(version).scope(PermissionChangeEventDto.Scope.API).build();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Records the versions it was sent; with a latch, every send blocks until the latch opens.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final List<Long> versions = new CopyOnWriteArrayList<>();
+        private volatile boolean failed;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData()));
+            Matcher id = ID.matcher(text);
+            if (id.find()) {
+                versions.add(Long.parseLong(id.group(1)));
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed = true;
+        }
+    }
+}
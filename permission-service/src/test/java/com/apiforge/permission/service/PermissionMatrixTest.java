@@ -0,0 +1,68 @@
+package com.apiforge.permission.service;
+
+import com.apiforge.permission.model.ApiPermission;
+import com.apiforge.permission.model.ContentPermission;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PermissionMatrixTest {
+
+    private final PermissionMatrix matrix = PermissionMatrix.compile(7,
+            List.of(
+                    api("article", "/api/content/article", "GET", "ADMIN", "PUBLIC"),
+                    api("article", "/api/content/article", "POST", "ADMIN"),
+                    api("article", "/api/content/article", "POST", "MODERATOR"),
+                    api("author", "/api/content/author", "GET")),
+            List.of(content("article", "READ", "REGISTERED", "ADMIN")));
+
+    @Test
+    void allowsWhenAnyRoleMatches() {
+        assertTrue(matrix.isApiAllowed("article", "/api/content/article", "GET", List.of("PUBLIC")));
+        assertTrue(matrix.isApiAllowed("article", "/api/content/article", "GET", List.of("EDITOR", "ADMIN")));
+        assertTrue(matrix.isContentAllowed("article", "READ", List.of("REGISTERED")));
+    }
+
+    @Test
+    void deniesUnknownRulesAndRoles() {
+        assertFalse(matrix.isApiAllowed("article", "/api/content/article", "DELETE", List.of("ADMIN")));
+        assertFalse(matrix.isApiAllowed("article", "/api/content/article", "GET", List.of("REGISTERED")));
+        assertFalse(matrix.isApiAllowed("author", "/api/content/author", "GET", List.of("ADMIN")));
+        assertFalse(matrix.isApiAllowed("page", "/api/content/page", "GET", List.of("ADMIN")));
+        assertFalse(matrix.isContentAllowed("article", "DELETE", List.of("ADMIN")));
+        assertFalse(matrix.isApiAllowed(null, "/api/content/article", "GET", List.of("ADMIN")));
+        assertFalse(matrix.isContentAllowed("article", "READ", null));
+    }
+
+    @Test
+    void mergesDuplicateRulesAndCountsDistinctKeys() {
+        assertTrue(matrix.isApiAllowed("article", "/api/content/article", "POST", List.of("MODERATOR")));
+        assertTrue(matrix.isApiAllowed("article", "/api/content/article", "POST", List.of("ADMIN")));
+        assertEquals(7, matrix.getVersion());
+        assertEquals(3, matrix.getApiRuleCount());
+        assertEquals(1, matrix.getContentRuleCount());
+        assertEquals(4, matrix.getRoleCount());
+    }
+
+    private static ApiPermission api(String apiId, String endpoint, String method, String... roles) {
+        return ApiPermission.builder()
+                .contentTypeApiId(apiId)
+                .endpoint(endpoint)
+                .method(method)
+                .allowedRoles(Set.of(roles))
+                .build();
+    }
+
+    private static ContentPermission content(String apiId, String action, String... roles) {
+        return ContentPermission.builder()
+                .contentTypeApiId(apiId)
+                .action(action)
+                .allowedRoles(Set.of(roles))
+                .build();
+    }
+}